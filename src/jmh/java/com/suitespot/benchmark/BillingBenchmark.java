@@ -0,0 +1,107 @@
+package com.suitespot.benchmark;
+
+import com.suitespot.entity.Bill;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
+import com.suitespot.entity.SystemSettings;
+import com.suitespot.repository.BillRepository;
+import com.suitespot.repository.SystemSettingsRepository;
+import com.suitespot.service.BillingService;
+import com.suitespot.service.RoomService;
+import com.suitespot.service.SystemSettingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the billing arithmetic and the room status rules. Each benchmark works on a
+ * fresh copy of the same inputs, so every call takes the full calculation path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@Fork(1)
+public class BillingBenchmark {
+
+    private BillingService billingService;
+    private Booking booking;
+    private Bill bill;
+    private MethodHandle isValidStatusTransition;
+    private RoomService roomService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        SyntheticDataset data = SyntheticDataset.generate(1000, 42L);
+        SystemSettings settings = new SystemSettings();
+
+        BillRepository billRepository = InMemoryRepositories.of(BillRepository.class, Map.of(
+            "findByBookingId", args -> Optional.empty(),
+            "save", args -> args[0]
+        ));
+        SystemSettingsRepository settingsRepository = InMemoryRepositories.of(SystemSettingsRepository.class, Map.of(
+            "findAll", args -> List.of(settings)
+        ));
+        SystemSettingsService systemSettingsService = new SystemSettingsService();
+        ReflectionTestUtils.setField(systemSettingsService, "systemSettingsRepository", settingsRepository);
+
+        billingService = new BillingService();
+        ReflectionTestUtils.setField(billingService, "billRepository", billRepository);
+        ReflectionTestUtils.setField(billingService, "systemSettingsService", systemSettingsService);
+
+        booking = data.bookings.get(0);
+        booking.setDiscount(new BigDecimal("15.00"));
+        bill = billingService.generateBill(booking);
+
+        roomService = new RoomService();
+        isValidStatusTransition = MethodHandles.privateLookupIn(RoomService.class, MethodHandles.lookup())
+            .findVirtual(RoomService.class, "isValidStatusTransition",
+                MethodType.methodType(boolean.class, Room.RoomStatus.class, Room.RoomStatus.class));
+    }
+
+    @Benchmark
+    public Bill generateBill() {
+        return billingService.generateBill(booking);
+    }
+
+    @Benchmark
+    public Bill applyDiscount() {
+        Bill copy = Bill.builder()
+            .roomCharges(bill.getRoomCharges())
+            .serviceCharges(bill.getServiceCharges())
+            .taxes(bill.getTaxes())
+            .discount(BigDecimal.ZERO)
+            .totalAmount(bill.getTotalAmount())
+            .build();
+        return billingService.applyDiscount(copy, new BigDecimal("40.00"));
+    }
+
+    @Benchmark
+    public void isValidStatusTransition(Blackhole blackhole) throws Throwable {
+        for (Room.RoomStatus from : Room.RoomStatus.values()) {
+            for (Room.RoomStatus to : Room.RoomStatus.values()) {
+                blackhole.consume((boolean) isValidStatusTransition.invokeExact(roomService, from, to));
+            }
+        }
+    }
+}
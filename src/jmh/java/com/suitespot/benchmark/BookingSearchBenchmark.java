@@ -0,0 +1,129 @@
+package com.suitespot.benchmark;
+
+import com.suitespot.controller.CheckInOutController;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.RoomBlockRepository;
+import com.suitespot.repository.RoomRepository;
+import com.suitespot.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking-side search paths against 1k, 100k and 1M synthetic bookings. Repositories return the
+ * in-memory dataset, so the numbers cover the in-JVM filtering that runs after the query returns;
+ * database time comes on top of these in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 20, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BookingSearchBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    private BookingService bookingService;
+    private CheckInOutController checkInOutController;
+
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticDataset data = SyntheticDataset.generate(bookings, 42L);
+
+        BookingRepository bookingRepository = InMemoryRepositories.of(BookingRepository.class, Map.of(
+            "findAll", args -> data.bookings,
+            "findByStatusesWithRelations", args -> {
+                Set<?> statuses = Set.copyOf((List<?>) args[0]);
+                return data.bookings.stream().filter(b -> statuses.contains(b.getStatus())).toList();
+            },
+            // What the (check_out_date) index range scan hands back, before the remaining filters
+            "findBookedRoomIds", args -> {
+                LocalDate from = (LocalDate) args[1];
+                LocalDate to = (LocalDate) args[2];
+                return data.bookings.stream()
+                        .filter(b -> b.getStatus() != args[0] && b.getRoom() != null)
+                        .filter(b -> !b.getCheckOutDate().isBefore(from) && !b.getCheckInDate().isAfter(to))
+                        .map(b -> b.getRoom().getId())
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList();
+            }
+        ));
+        RoomBlockRepository roomBlockRepository = InMemoryRepositories.of(RoomBlockRepository.class, Map.of(
+            "findBlockedRoomIds", args -> List.of()
+        ));
+        RoomRepository roomRepository = InMemoryRepositories.of(RoomRepository.class, Map.of(
+            "findAll", args -> data.rooms
+        ));
+
+        bookingService = new BookingService();
+        ReflectionTestUtils.setField(bookingService, "bookingRepository", bookingRepository);
+        ReflectionTestUtils.setField(bookingService, "roomRepository", roomRepository);
+        ReflectionTestUtils.setField(bookingService, "roomBlockRepository", roomBlockRepository);
+
+        checkInOutController = new CheckInOutController();
+        ReflectionTestUtils.setField(checkInOutController, "bookingService", bookingService);
+
+        checkIn = SyntheticDataset.START.plusDays(SyntheticDataset.DAYS / 2);
+        checkOut = checkIn.plusDays(3);
+    }
+
+    @Benchmark
+    public List<Room> searchAvailableRooms() {
+        return bookingService.searchAvailableRooms(checkIn, checkOut, null);
+    }
+
+    @Benchmark
+    public List<Room> searchAvailableRoomsByType() {
+        return bookingService.searchAvailableRooms(checkIn, checkOut, Room.RoomType.SUITE);
+    }
+
+    @Benchmark
+    public List<Booking> searchBookingsByName() {
+        return bookingService.searchBookings("tanaka", null, null);
+    }
+
+    @Benchmark
+    public List<Booking> searchBookingsByNameAndDates() {
+        return bookingService.searchBookings("tanaka", checkIn, checkIn.plusDays(30));
+    }
+
+    @Benchmark
+    public Object checkInSearchByName() {
+        ExtendedModelMap model = new ExtendedModelMap();
+        checkInOutController.searchForCheckIn("sofia rossi", model);
+        return model.get("searchResults");
+    }
+
+    @Benchmark
+    public Object checkInSearchByIdNumber() {
+        ExtendedModelMap model = new ExtendedModelMap();
+        checkInOutController.searchForCheckIn("P10000123", model);
+        return model.get("searchResults");
+    }
+}
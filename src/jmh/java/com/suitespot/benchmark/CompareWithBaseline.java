@@ -0,0 +1,83 @@
+package com.suitespot.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file with the committed baseline and prints the change per
+ * benchmark and parameter set. Exits with status 1 when any benchmark is slower than the
+ * baseline by more than the threshold (default 10%) and by more than the two scores' error
+ * margins (JMH scoreError, 99.9% confidence) combined, so run-to-run noise is not reported as a
+ * regression. Results whose combined margin exceeds the threshold are marked NOISY: they can
+ * neither pass nor fail that threshold reliably, rerun them with more iterations.
+ *
+ * Usage: CompareWithBaseline baseline.json current.json [thresholdPercent]
+ */
+public final class CompareWithBaseline {
+
+    private CompareWithBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareWithBaseline <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        boolean regressed = false;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score after = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-80s %12.3f +/- %-10.3f  (new)%n", entry.getKey(), after.score(), after.error());
+                continue;
+            }
+            // All benchmarks report time per operation, so higher is slower
+            double difference = after.score() - before.score();
+            double margin = Math.hypot(before.error(), after.error());
+            double change = difference / before.score() * 100;
+            boolean noisy = margin / before.score() * 100 > threshold;
+            boolean slower = change > threshold && difference > margin;
+            regressed |= slower;
+            System.out.printf("%-80s %12.3f -> %12.3f +/- %-10.3f %+7.1f%%%s%s%n",
+                entry.getKey(), before.score(), after.score(), margin, change,
+                slower ? "  REGRESSION" : "", noisy ? "  NOISY" : "");
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private record Score(double score, double error) {
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                .replace("com.suitespot.benchmark.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            key.append(" [").append(result.get("primaryMetric").get("scoreUnit").asText()).append(']');
+            JsonNode metric = result.get("primaryMetric");
+            // scoreError is NaN (serialized as a string) for a single measurement iteration
+            double error = metric.get("scoreError").asDouble(0);
+            scores.put(key.toString(), new Score(metric.get("score").asDouble(),
+                Double.isNaN(error) ? 0 : error));
+        }
+        return scores;
+    }
+}
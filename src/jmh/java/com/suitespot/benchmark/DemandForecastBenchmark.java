@@ -0,0 +1,120 @@
+package com.suitespot.benchmark;
+
+import com.suitespot.config.ForecastProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.service.DemandForecastService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forecast training and rebuild over the synthetic history. Bookings are given a booking date up
+ * to 120 days before arrival and cancellations a date between booking and arrival. train is the
+ * first run over a full year (later nights add one night each); forecast is the rebuild after a
+ * booking change, from the stays in the 90-night horizon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 20, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DemandForecastBenchmark {
+
+    private static final LocalDate TODAY = SyntheticDataset.START.plusDays(SyntheticDataset.DAYS / 2);
+
+    @Param({"100000", "1000000"})
+    public int bookings;
+
+    private DemandForecastService service;
+    private List<Room> rooms;
+    private List<BookingRepository.StayHistory> history;
+    private List<BookingRepository.StayHistory> horizon;
+
+    private record Row(Room.RoomType roomType, LocalDate checkInDate, LocalDate checkOutDate,
+                       Booking.BookingStatus status, LocalDateTime createdAt, LocalDateTime updatedAt)
+            implements BookingRepository.StayHistory {
+
+        public Room.RoomType getRoomType() {
+            return roomType;
+        }
+
+        public LocalDate getCheckInDate() {
+            return checkInDate;
+        }
+
+        public LocalDate getCheckOutDate() {
+            return checkOutDate;
+        }
+
+        public Booking.BookingStatus getStatus() {
+            return status;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticDataset data = SyntheticDataset.generate(bookings, 42L);
+        Random random = new Random(7L);
+        rooms = data.rooms;
+        history = new ArrayList<>();
+        horizon = new ArrayList<>();
+        LocalDate last = TODAY.plusDays(89);
+        for (Booking booking : data.bookings) {
+            LocalDate booked = booking.getCheckInDate().minusDays(random.nextInt(121));
+            LocalDate updated = booking.getStatus() == Booking.BookingStatus.CANCELLED
+                ? booked.plusDays(random.nextInt((int) (booking.getCheckInDate().toEpochDay() - booked.toEpochDay()) + 1))
+                : booked;
+            Row row = new Row(booking.getRoom().getType(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getStatus(), booked.atTime(12, 0), updated.atTime(12, 0));
+            if (booking.getCheckOutDate().isAfter(TODAY.minusDays(365)) && booking.getCheckInDate().isBefore(TODAY)) {
+                history.add(row);
+            }
+            if (booking.getCheckOutDate().isAfter(TODAY) && !booking.getCheckInDate().isAfter(last)) {
+                horizon.add(row);
+            }
+        }
+
+        service = new DemandForecastService();
+        ReflectionTestUtils.setField(service, "forecastProperties", new ForecastProperties());
+        service.train(history, TODAY.minusDays(365), TODAY.minusDays(1));
+    }
+
+    @Benchmark
+    public DemandForecastService train() {
+        service.train(history, TODAY.minusDays(365), TODAY.minusDays(1));
+        return service;
+    }
+
+    @Benchmark
+    public DemandForecastService.Forecast forecast() {
+        return service.forecast(rooms, List.of(), horizon, TODAY);
+    }
+}
@@ -0,0 +1,32 @@
+package com.suitespot.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds repository stand-ins backed by in-memory data, so benchmarks measure the Java side of a
+ * hot path without a database. Only the methods named in the handler map are supported.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static <T> T of(Class<T> repositoryType, Map<String, Function<Object[], Object>> handlers) {
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] {repositoryType},
+            (self, method, args) -> switch (method.getName()) {
+                case "equals" -> self == args[0];
+                case "hashCode" -> System.identityHashCode(self);
+                case "toString" -> "InMemory" + repositoryType.getSimpleName();
+                default -> {
+                    Function<Object[], Object> handler = handlers.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                    }
+                    yield handler.apply(args);
+                }
+            });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,123 @@
+package com.suitespot.benchmark;
+
+import com.suitespot.config.RoomAssignmentProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Guest;
+import com.suitespot.entity.Room;
+import com.suitespot.service.RoomAssignmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One optimizer run over a full property: every room is filled with back-to-back stays of 1-7
+ * nights separated by 0-3 free nights for the whole horizon, then each stay is moved to a random
+ * room of its type, the scattered state a hand assignment drifts into. The stays of a type always
+ * fit its rooms, so the run measures packing, not overbooking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 20, time = 2)
+@Fork(1)
+public class RoomAssignmentBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Param({"1000"})
+    public int rooms;
+
+    @Param({"60"})
+    public int horizonDays;
+
+    private RoomAssignmentService service;
+    private ExecutorService executor;
+    private List<Room> roomList;
+    private List<Booking> bookings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        Room.RoomType[] types = Room.RoomType.values();
+        roomList = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            Room room = new Room();
+            room.setId((long) i + 1);
+            room.setRoomNumber(String.valueOf((i / 50 + 1) * 100 + i % 50));
+            room.setType(types[Math.min(types.length - 1, random.nextInt(types.length + 2) / 2)]);
+            room.setFloor(i / 50 + 1);
+            room.setAmenities(random.nextBoolean() ? "WiFi, TV, Balcony" : "WiFi, TV");
+            room.setStatus(Room.RoomStatus.AVAILABLE);
+            roomList.add(room);
+        }
+        Map<Room.RoomType, List<Room>> byType = new EnumMap<>(Room.RoomType.class);
+        roomList.forEach(room -> byType.computeIfAbsent(room.getType(), type -> new ArrayList<>()).add(room));
+
+        String[] preferences = {null, null, null, "high floor", "low floor", "balcony", "floor 3, balcony"};
+        bookings = new ArrayList<>();
+        long id = 1;
+        for (Room room : roomList) {
+            LocalDate night = TODAY.plusDays(1 + random.nextInt(3));
+            while (night.isBefore(TODAY.plusDays(horizonDays))) {
+                int nights = 1 + random.nextInt(7);
+                Guest guest = new Guest();
+                guest.setId(id);
+                guest.setPreferences(preferences[random.nextInt(preferences.length)]);
+                List<Room> sameType = byType.get(room.getType());
+                Booking booking = new Booking();
+                booking.setId(id++);
+                booking.setGuest(guest);
+                booking.setRoom(sameType.get(random.nextInt(sameType.size())));
+                booking.setCheckInDate(night);
+                booking.setCheckOutDate(night.plusDays(nights));
+                booking.setStatus(random.nextBoolean() ? Booking.BookingStatus.CONFIRMED : Booking.BookingStatus.PENDING);
+                bookings.add(booking);
+                night = night.plusDays(nights + random.nextInt(4));
+            }
+        }
+
+        executor = Executors.newFixedThreadPool(Math.min(types.length, Runtime.getRuntime().availableProcessors()));
+        service = new RoomAssignmentService();
+        ReflectionTestUtils.setField(service, "roomAssignmentProperties", properties());
+        ReflectionTestUtils.setField(service, "assignmentExecutor", executor);
+    }
+
+    private RoomAssignmentProperties properties() {
+        RoomAssignmentProperties properties = new RoomAssignmentProperties();
+        properties.setHorizonDays(horizonDays);
+        properties.setFreezeDays(0);
+        return properties;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public RoomAssignmentService.Plan optimize() {
+        return service.optimize(roomList, bookings, List.of(), TODAY);
+    }
+}
@@ -0,0 +1,110 @@
+package com.suitespot.benchmark;
+
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Guest;
+import com.suitespot.entity.Room;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic hotel data for benchmarks: the same size and seed always give the same rooms,
+ * guests and bookings. One room per 25 bookings (at least 40), one guest per 3 bookings, stays of
+ * 1-7 nights spread over two years from {@link #START}, mostly completed stays like a real history.
+ */
+final class SyntheticDataset {
+
+    static final LocalDate START = LocalDate.of(2025, 1, 1);
+    static final int DAYS = 730;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Maria", "Chen", "Aisha", "Lucas", "Sofia", "Kenji", "Amara", "Noah", "Elena",
+        "Omar", "Priya", "Liam", "Yuki", "Mateo", "Zara", "Ivan", "Fatima", "Leo", "Hana"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Wang", "Khan", "Silva", "Rossi", "Tanaka", "Okafor", "Brown", "Petrova",
+        "Haddad", "Sharma", "Murphy", "Sato", "Lopez", "Ali", "Novak", "Hassan", "Martin", "Kim"
+    };
+
+    private static final Room.RoomType[] TYPES = Room.RoomType.values();
+    private static final BigDecimal[] PRICES = {
+        new BigDecimal("89.00"), new BigDecimal("129.00"), new BigDecimal("249.00"),
+        new BigDecimal("179.00"), new BigDecimal("899.00")
+    };
+
+    final List<Room> rooms;
+    final List<Guest> guests;
+    final List<Booking> bookings;
+
+    private SyntheticDataset(List<Room> rooms, List<Guest> guests, List<Booking> bookings) {
+        this.rooms = rooms;
+        this.guests = guests;
+        this.bookings = bookings;
+    }
+
+    static SyntheticDataset generate(int bookingCount, long seed) {
+        Random random = new Random(seed);
+
+        int roomCount = Math.max(40, bookingCount / 25);
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room();
+            room.setId((long) i + 1);
+            room.setRoomNumber(String.valueOf((i / 100 + 1) * 1000 + i % 100));
+            int type = random.nextInt(TYPES.length);
+            room.setType(TYPES[type]);
+            room.setPricePerNight(PRICES[type]);
+            room.setCapacity(type + 1);
+            room.setFloor(i / 100 + 1);
+            room.setStatus(random.nextInt(10) == 0 ? Room.RoomStatus.MAINTENANCE : Room.RoomStatus.AVAILABLE);
+            rooms.add(room);
+        }
+
+        int guestCount = Math.max(1, bookingCount / 3);
+        List<Guest> guests = new ArrayList<>(guestCount);
+        for (int i = 0; i < guestCount; i++) {
+            Guest guest = new Guest();
+            guest.setId((long) i + 1);
+            guest.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            guest.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            guest.setPhone(String.format("+1555%07d", i));
+            guest.setIdNumber(String.format("P%08d", 10_000_000 + i));
+            guest.setIdType("Passport");
+            guests.add(guest);
+        }
+
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            Room room = rooms.get(random.nextInt(roomCount));
+            LocalDate checkIn = START.plusDays(random.nextInt(DAYS));
+            int nights = 1 + random.nextInt(7);
+            Booking booking = new Booking();
+            booking.setId((long) i + 1);
+            booking.setRoom(room);
+            booking.setGuest(guests.get(random.nextInt(guestCount)));
+            booking.setCheckInDate(checkIn);
+            booking.setCheckOutDate(checkIn.plusDays(nights));
+            booking.setStatus(status(random.nextInt(100)));
+            booking.setTotalAmount(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)));
+            bookings.add(booking);
+        }
+        return new SyntheticDataset(rooms, guests, bookings);
+    }
+
+    private static Booking.BookingStatus status(int roll) {
+        if (roll < 60) {
+            return Booking.BookingStatus.CHECKED_OUT;
+        } else if (roll < 75) {
+            return Booking.BookingStatus.CONFIRMED;
+        } else if (roll < 85) {
+            return Booking.BookingStatus.PENDING;
+        } else if (roll < 92) {
+            return Booking.BookingStatus.CHECKED_IN;
+        }
+        return Booking.BookingStatus.CANCELLED;
+    }
+}
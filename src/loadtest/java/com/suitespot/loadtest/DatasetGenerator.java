@@ -0,0 +1,500 @@
+package com.suitespot.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Production-shaped hotel data written with PostgreSQL COPY, in parallel across cores.
+ *
+ * - Rooms: 40 per floor, type mix shifting to suites on the top floors, prices by type and floor.
+ * - Guests: first and last names drawn from a Zipf distribution, so a few names are very common.
+ * - Bookings: every room gets its own timeline of non-overlapping stays from {@code years} before
+ *   the anchor date to 180 days after it. Occupancy follows the season (peak in July) and the room
+ *   type. Three stays in ten go to a pool of regulars (the lowest 5% of guest ids), so repeat
+ *   stays are common while most guests come once or twice. Status follows the anchor date: past
+ *   stays are checked out (some cancelled), current ones checked in, future ones confirmed or pending.
+ * - Bills for every checked-in and checked-out stay; taxi requests for about one stay in eight.
+ *
+ * Each table is cut into chunks (guest id ranges, room ranges) and every chunk draws from its own
+ * random stream derived from the seed, so the same seed and anchor give the same rows whatever the
+ * thread count. Booking ids are dense: a counting pass sizes every room chunk first. A room chunk
+ * writes its bookings, bills and taxi requests over one connection in one transaction, so the foreign
+ * keys are satisfied without ordering chunks against each other.
+ *
+ * Run standalone with {@link #main}: jdbc-url, db-user, db-password, rooms, guests, years, seed,
+ * anchor (yyyy-mm-dd), threads, reset (truncate the tables first).
+ */
+public final class DatasetGenerator {
+
+    static final String[] FIRST_NAMES = {
+        "James", "Maria", "Wei", "Mohammed", "Sofia", "Lucas", "Aisha", "Chen", "Elena", "Noah",
+        "Priya", "Liam", "Fatima", "Kenji", "Olivia", "Mateo", "Amara", "Ivan", "Hana", "Omar",
+        "Emma", "Carlos", "Yuki", "Zara", "Leo", "Ana", "David", "Nadia", "Samuel", "Leila",
+        "Daniel", "Mei", "Pedro", "Ingrid", "Tomas", "Chloe", "Ahmed", "Grace", "Arjun", "Sara"
+    };
+
+    static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Wang", "Khan", "Silva", "Rossi", "Tanaka", "Okafor", "Brown", "Petrova",
+        "Nguyen", "Muller", "Haddad", "Sharma", "Murphy", "Sato", "Lopez", "Ali", "Novak", "Hassan",
+        "Martin", "Kim", "Johnson", "Fernandez", "Chen", "Kowalski", "Costa", "Jensen", "Ibrahim", "Park",
+        "Dubois", "Ivanov", "Moreno", "Yilmaz", "Andersson", "Schmidt", "Singh", "Rahman", "Walker", "Nakamura"
+    };
+
+    private static final String[] CITIES = {
+        "London", "New York", "Singapore", "Dubai", "Paris", "Tokyo", "Sydney", "Berlin", "Mumbai", "Toronto"
+    };
+    private static final String[] COUNTRIES = {
+        "United Kingdom", "United States", "Singapore", "United Arab Emirates", "France", "Japan", "Australia",
+        "Germany", "India", "Canada"
+    };
+    private static final String[] ID_TYPES = {"Passport", "Passport", "Passport", "National ID", "Driver License"};
+
+    private static final String[] TYPES = {"SINGLE", "DOUBLE", "DELUXE", "SUITE", "PRESIDENTIAL"};
+    private static final double[] TYPE_PRICES = {89, 129, 179, 249, 899};
+    private static final int[] TYPE_CAPACITY = {1, 2, 2, 4, 6};
+    private static final double[] TYPE_OCCUPANCY = {0.78, 0.74, 0.66, 0.52, 0.30};
+    private static final String[] TYPE_AMENITIES = {
+        "WiFi,TV", "WiFi,TV,Minibar", "WiFi,TV,Minibar,Bathtub", "WiFi,TV,Minibar,Bathtub,Lounge",
+        "WiFi,TV,Minibar,Bathtub,Lounge,Butler"
+    };
+
+    private static final String[] TAXI_PLACES = {
+        "Airport", "Train Station", "Bus Terminal", "City Centre", "Convention Centre", "Hospital"
+    };
+    private static final double[] TAXI_KM = {28.0, 7.5, 6.0, 5.0, 9.0, 4.5};
+
+    private static final int ROOMS_PER_FLOOR = 40;
+    private static final int ROOM_CHUNK = 64;
+    private static final int GUEST_CHUNK = 50_000;
+    private static final int FUTURE_DAYS = 180;
+    // Share of stays booked by regulars, and the share of guests who are regulars
+    private static final double REPEAT_SHARE = 0.3;
+    private static final double REGULARS = 0.05;
+
+    private static final BigDecimal SERVICE_RATE = new BigDecimal("0.05");
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+
+    private static final double[] FIRST_NAME_CDF = zipf(FIRST_NAMES.length);
+    private static final double[] LAST_NAME_CDF = zipf(LAST_NAMES.length);
+
+    record Settings(int rooms, int guests, int years, LocalDate anchor, long seed, int threads) {
+
+        /**
+         * Rooms and guests for roughly the given number of bookings over the given years
+         */
+        static Settings forBookings(long bookings, int years, LocalDate anchor, long seed, int threads) {
+            // A room averages about 0.3 stays per day across the seasons
+            int rooms = (int) Math.max(40, bookings * 10 / ((years * 365L + FUTURE_DAYS) * 3));
+            int guests = (int) Math.max(100, bookings / 2);
+            return new Settings(rooms, guests, years, anchor, seed, threads);
+        }
+    }
+
+    record Summary(int rooms, int guests, long bookings, long bills, long taxiRequests) {
+
+        long rows() {
+            return rooms + guests + bookings + bills + taxiRequests;
+        }
+    }
+
+    private record Room(int id, int type, BigDecimal price) {
+    }
+
+    private final DataSource dataSource;
+    private final Settings settings;
+    private final LocalDate start;
+    private final LocalDate end;
+    private Room[] rooms;
+
+    public DatasetGenerator(DataSource dataSource, Settings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.start = settings.anchor().minusYears(settings.years());
+        this.end = settings.anchor().plusDays(FUTURE_DAYS);
+    }
+
+    public Summary generate() throws Exception {
+        rooms = new Room[settings.rooms()];
+        StringBuilder roomCsv = new StringBuilder();
+        for (int id = 1; id <= settings.rooms(); id++) {
+            rooms[id - 1] = room(id, roomCsv);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(settings.threads());
+        try {
+            copy("rooms (id, room_number, type, status, price_per_night, capacity, amenities, description, floor, active)",
+                roomCsv);
+
+            List<Future<?>> guestChunks = new ArrayList<>();
+            for (int first = 1; first <= settings.guests(); first += GUEST_CHUNK) {
+                int from = first;
+                int to = Math.min(settings.guests(), first + GUEST_CHUNK - 1);
+                guestChunks.add(pool.submit(() -> copy(
+                    "guests (id, first_name, last_name, email, phone, id_number, id_type, date_of_birth, city, country, active)",
+                    guests(from, to))));
+            }
+            await(guestChunks);
+
+            // Counting pass: bookings per room chunk, so every chunk knows its first booking id
+            int chunks = (settings.rooms() + ROOM_CHUNK - 1) / ROOM_CHUNK;
+            List<Future<Long>> counts = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int c = chunk;
+                counts.add(pool.submit(() -> stays(c, null)));
+            }
+            long[] firstIds = new long[chunks];
+            long next = 1;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                firstIds[chunk] = next;
+                next += counts.get(chunk).get();
+            }
+
+            AtomicLong bills = new AtomicLong();
+            AtomicLong taxis = new AtomicLong();
+            List<Future<?>> bookingChunks = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int c = chunk;
+                bookingChunks.add(pool.submit(() -> {
+                    StayWriter writer = new StayWriter(firstIds[c]);
+                    stays(c, writer);
+                    copyBookings(writer);
+                    bills.addAndGet(writer.bills);
+                    taxis.addAndGet(writer.taxis);
+                    return null;
+                }));
+            }
+            await(bookingChunks);
+
+            finish();
+            return new Summary(settings.rooms(), settings.guests(), next - 1, bills.get(), taxis.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ---- rooms and guests ----
+
+    private Room room(int id, StringBuilder csv) {
+        SplittableRandom random = random(1, id);
+        int floor = (id - 1) / ROOMS_PER_FLOOR + 1;
+        int floors = (settings.rooms() + ROOMS_PER_FLOOR - 1) / ROOMS_PER_FLOOR;
+        boolean topFloor = floors > 2 && floor > floors * 0.9;
+        double u = random.nextDouble();
+        int type = topFloor
+            ? (u < 0.5 ? 3 : u < 0.8 ? 2 : 4)
+            : (u < 0.38 ? 0 : u < 0.76 ? 1 : u < 0.92 ? 2 : u < 0.99 ? 3 : 4);
+        BigDecimal price = BigDecimal.valueOf(TYPE_PRICES[type] * (1 + floor * 0.002)).setScale(0, RoundingMode.HALF_UP)
+            .setScale(2);
+        String status = random.nextInt(100) < 2 ? "MAINTENANCE" : "AVAILABLE";
+        csv.append(id).append(',')
+            .append(floor * 100 + (id - 1) % ROOMS_PER_FLOOR + 1).append(',')
+            .append(TYPES[type]).append(',')
+            .append(status).append(',')
+            .append(price).append(',')
+            .append(TYPE_CAPACITY[type]).append(',')
+            .append('"').append(TYPE_AMENITIES[type]).append('"').append(',')
+            .append('"').append(TYPES[type].charAt(0)).append(TYPES[type].substring(1).toLowerCase())
+            .append(" room, floor ").append(floor).append('"').append(',')
+            .append(floor).append(",t\n");
+        return new Room(id, type, price);
+    }
+
+    private StringBuilder guests(int from, int to) {
+        SplittableRandom random = random(2, from);
+        StringBuilder csv = new StringBuilder((to - from + 1) * 140);
+        for (int id = from; id <= to; id++) {
+            String first = FIRST_NAMES[pick(FIRST_NAME_CDF, random)];
+            String last = LAST_NAMES[pick(LAST_NAME_CDF, random)];
+            int place = pick(LAST_NAME_CDF, random) % CITIES.length;
+            csv.append(id).append(',')
+                .append(first).append(',')
+                .append(last).append(',')
+                .append(first.toLowerCase()).append('.').append(last.toLowerCase()).append(id).append("@example.com,")
+                .append("+1555").append(String.format("%07d", id % 10_000_000)).append(',')
+                .append(String.format("P%09d", id)).append(',')
+                .append(ID_TYPES[random.nextInt(ID_TYPES.length)]).append(',')
+                .append(settings.anchor().minusYears(18 + random.nextInt(62)).minusDays(random.nextInt(365))).append(',')
+                .append(CITIES[place]).append(',')
+                .append(COUNTRIES[place]).append(",t\n");
+        }
+        return csv;
+    }
+
+    // ---- bookings, bills, taxi requests ----
+
+    /**
+     * Walk the timelines of one chunk of rooms; with a null writer only count the stays
+     */
+    private long stays(int chunk, StayWriter writer) {
+        long count = 0;
+        int first = chunk * ROOM_CHUNK + 1;
+        int last = Math.min(settings.rooms(), first + ROOM_CHUNK - 1);
+        for (int id = first; id <= last; id++) {
+            Room room = rooms[id - 1];
+            SplittableRandom random = random(3, id);
+            LocalDate day = start.plusDays(random.nextInt(7));
+            while (true) {
+                double occupancy = occupancy(room.type(), day);
+                int nights = 1 + (int) Math.min(13, -Math.log(1 - random.nextDouble()) * (room.type() >= 3 ? 2.2 : 1.6));
+                double meanGap = nights * (1 - occupancy) / occupancy;
+                day = day.plusDays(Math.round(-Math.log(1 - random.nextDouble()) * meanGap));
+                if (!day.isBefore(end)) {
+                    break;
+                }
+                // Draw the stay's attributes even when counting, so both passes stay in step
+                double u = random.nextDouble();
+                long guest = 1 + (long) (u < REPEAT_SHARE
+                    ? u / REPEAT_SHARE * settings.guests() * REGULARS
+                    : (u - REPEAT_SHARE) / (1 - REPEAT_SHARE) * settings.guests());
+                int statusRoll = random.nextInt(100);
+                int leadDays = random.nextInt(120);
+                int extrasRoll = random.nextInt(100);
+                int taxiRoll = random.nextInt(100);
+                int place = random.nextInt(TAXI_PLACES.length);
+                if (writer != null) {
+                    writer.stay(room, guest, day, nights, statusRoll, leadDays, extrasRoll, taxiRoll, place);
+                }
+                count++;
+                day = day.plusDays(nights);
+            }
+        }
+        return count;
+    }
+
+    private double occupancy(int type, LocalDate day) {
+        double season = 1 + 0.22 * Math.cos(2 * Math.PI * (day.getDayOfYear() - 196) / 365.0);
+        double weekend = day.getDayOfWeek().getValue() >= 5 ? 1.08 : 1.0;
+        return Math.max(0.05, Math.min(0.97, TYPE_OCCUPANCY[type] * season * weekend));
+    }
+
+    private final class StayWriter {
+        private final StringBuilder bookings = new StringBuilder(1 << 20);
+        private final StringBuilder billCsv = new StringBuilder(1 << 19);
+        private final StringBuilder taxiCsv = new StringBuilder(1 << 16);
+        private long nextId;
+        private long bills;
+        private long taxis;
+
+        StayWriter(long firstId) {
+            this.nextId = firstId;
+        }
+
+        void stay(Room room, long guest, LocalDate checkIn, int nights, int statusRoll, int leadDays,
+                  int extrasRoll, int taxiRoll, int place) {
+            long id = nextId++;
+            LocalDate checkOut = checkIn.plusDays(nights);
+            LocalDate anchor = settings.anchor();
+            String status;
+            if (!checkOut.isAfter(anchor)) {
+                status = statusRoll < 7 ? "CANCELLED" : "CHECKED_OUT";
+            } else if (!checkIn.isAfter(anchor)) {
+                status = statusRoll < 3 ? "CANCELLED" : "CHECKED_IN";
+            } else {
+                status = statusRoll < 10 ? "CANCELLED" : statusRoll < 30 ? "PENDING" : "CONFIRMED";
+            }
+            BigDecimal total = room.price().multiply(BigDecimal.valueOf(nights));
+            BigDecimal discount = extrasRoll < 5 ? total.multiply(new BigDecimal("0.10")).setScale(2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(2);
+            LocalDateTime created = checkIn.minusDays(leadDays).atTime(LocalTime.of(8 + leadDays % 12, leadDays % 60));
+            bookings.append(id).append(',')
+                .append(guest).append(',')
+                .append(room.id()).append(',')
+                .append(checkIn).append(',')
+                .append(checkOut).append(',')
+                .append(status).append(',')
+                .append(total).append(',')
+                .append(discount).append(',')
+                .append(extrasRoll >= 90 ? "Late check-in" : extrasRoll >= 85 ? "\"High floor, quiet room\"" : "").append(',')
+                .append(created).append(',')
+                .append(created).append('\n');
+
+            if (status.equals("CHECKED_OUT") || status.equals("CHECKED_IN")) {
+                // Same arithmetic as BillingService.generateBill with the default 5% service and 10% tax
+                BigDecimal service = total.multiply(SERVICE_RATE).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal subtotal = total.add(service);
+                BigDecimal taxes = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal billTotal = subtotal.add(taxes).subtract(discount).setScale(2, RoundingMode.HALF_UP);
+                boolean checkedOut = status.equals("CHECKED_OUT");
+                LocalDateTime generated = (checkedOut ? checkOut : checkIn).atTime(11, 0);
+                billCsv.append(id).append(',')
+                    .append(id).append(',')
+                    .append(total).append(',')
+                    .append(service).append(',')
+                    .append(taxes).append(',')
+                    .append(discount).append(',')
+                    .append(billTotal).append(',')
+                    .append(checkedOut ? "PAID" : "PENDING").append(',')
+                    .append(generated).append(',')
+                    .append(checkedOut ? generated.plusMinutes(5).toString() : "").append('\n');
+                bills++;
+            }
+
+            if (taxiRoll < 12 && !checkIn.isAfter(anchor) && !status.equals("CANCELLED")) {
+                boolean arrival = taxiRoll < 5;
+                String pickup = arrival ? TAXI_PLACES[place] : "Hotel";
+                String destination = arrival ? "Hotel" : TAXI_PLACES[place];
+                LocalDateTime requested = (arrival ? checkIn : checkOut.isAfter(anchor) ? checkIn : checkOut)
+                    .atTime(arrival ? 14 : 10, taxiRoll * 5);
+                double fare = Math.round((5.0 + 1.5 * TAXI_KM[place]) * 100) / 100.0;
+                boolean cancelled = taxiRoll == 11;
+                taxiCsv.append(id).append(',')
+                    .append(pickup).append(',')
+                    .append(destination).append(',')
+                    .append(cancelled ? "CANCELLED" : "COMPLETED").append(',')
+                    .append(requested).append(',')
+                    .append(requested.plusMinutes(10)).append(',')
+                    .append(fare).append(',')
+                    .append(requested.minusMinutes(30)).append(',')
+                    .append(cancelled ? "" : requested.plusMinutes(45).toString()).append('\n');
+                taxis++;
+            }
+        }
+    }
+
+    private void copyBookings(StayWriter writer) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+            copy.copyIn("COPY bookings (id, guest_id, room_id, check_in_date, check_out_date, status, total_amount, "
+                + "discount, special_requests, created_at, updated_at) FROM STDIN (FORMAT csv)", new StringReader(writer.bookings.toString()));
+            copy.copyIn("COPY bills (id, booking_id, room_charges, service_charges, taxes, discount, total_amount, "
+                + "payment_status, generated_at, paid_at) FROM STDIN (FORMAT csv)", new StringReader(writer.billCsv.toString()));
+            copy.copyIn("COPY taxi_requests (booking_id, pickup_location, destination, status, requested_time, "
+                + "estimated_arrival_time, estimated_cost, created_at, completed_at) FROM STDIN (FORMAT csv)",
+                new StringReader(writer.taxiCsv.toString()));
+            connection.commit();
+        }
+    }
+
+    // ---- plumbing ----
+
+    private Void copy(String target, StringBuilder csv) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + target + " FROM STDIN (FORMAT csv)", new StringReader(csv.toString()));
+        }
+        return null;
+    }
+
+    /**
+     * Move identity sequences past the generated ids, mark rooms with a current stay occupied, refresh statistics
+     */
+    private void finish() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : new String[] {"rooms", "guests", "bookings", "bills"}) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "GREATEST((SELECT MAX(id) FROM " + table + "), 1))");
+            }
+            statement.execute("UPDATE rooms SET status = 'OCCUPIED' WHERE id IN "
+                + "(SELECT room_id FROM bookings WHERE status = 'CHECKED_IN')");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Empty every table the generator writes, for re-running against the same database
+     */
+    static void reset(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE taxi_requests, bills, bookings, guests, rooms RESTART IDENTITY CASCADE");
+        }
+    }
+
+    /**
+     * Sizes of an already generated database, for load tests that reuse one
+     */
+    static Summary count(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT (SELECT MAX(id) FROM rooms), (SELECT MAX(id) FROM guests), "
+                 + "(SELECT COUNT(*) FROM bookings), (SELECT COUNT(*) FROM bills), (SELECT COUNT(*) FROM taxi_requests)")) {
+            rs.next();
+            return new Summary(rs.getInt(1), rs.getInt(2), rs.getLong(3), rs.getLong(4), rs.getLong(5));
+        }
+    }
+
+    private SplittableRandom random(int stream, long index) {
+        return new SplittableRandom(settings.seed() * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static double[] zipf(int n) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / (i + 1);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void await(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestRunner.parse(args);
+        DataSource dataSource = new DriverManagerDataSource(
+            options.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:6969/suitespot"),
+            options.getOrDefault("db-user", "postgres"), options.getOrDefault("db-password", ""));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        if (Boolean.parseBoolean(options.getOrDefault("reset", "false"))) {
+            reset(dataSource);
+        }
+        Settings settings = new Settings(
+            Integer.parseInt(options.getOrDefault("rooms", "5000")),
+            Integer.parseInt(options.getOrDefault("guests", "3000000")),
+            Integer.parseInt(options.getOrDefault("years", "5")),
+            LocalDate.parse(options.getOrDefault("anchor", LocalDate.now().toString())),
+            Long.parseLong(options.getOrDefault("seed", "42")),
+            Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))));
+        long startedAt = System.nanoTime();
+        Summary summary = new DatasetGenerator(dataSource, settings).generate();
+        System.out.printf("Generated %,d rows in %.1fs: %,d rooms, %,d guests, %,d bookings, %,d bills, %,d taxi requests%n",
+            summary.rows(), (System.nanoTime() - startedAt) / 1e9, summary.rooms(), summary.guests(),
+            summary.bookings(), summary.bills(), summary.taxiRequests());
+    }
+}
@@ -0,0 +1,93 @@
+package com.suitespot.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One simulated desk user: a plain HTTP client with its own cookie jar, so every worker holds its
+ * own session (or signed token cookie). Redirects are not followed; a redirect to /login counts
+ * as a failure because it means the session was lost.
+ */
+class LoadClient {
+
+    record Request(String method, String path, Map<String, String> form) {
+
+        static Request get(String path) {
+            return new Request("GET", path, Map.of());
+        }
+
+        static Request post(String path, Map<String, String> form) {
+            return new Request("POST", path, form);
+        }
+    }
+
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private HttpClient client;
+
+    LoadClient(String baseUrl, String username, String password) {
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        reset();
+    }
+
+    /**
+     * Drop the cookie jar, i.e. start as a new anonymous browser
+     */
+    void reset() {
+        client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    boolean login() throws IOException, InterruptedException {
+        return send(loginRequest());
+    }
+
+    Request loginRequest() {
+        return Request.post("/login", Map.of("username", username, "password", password));
+    }
+
+    /**
+     * Send a request and read the whole body; true for 2xx and for redirects other than to /login
+     */
+    boolean send(Request request) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+            .timeout(Duration.ofSeconds(30));
+        if ("POST".equals(request.method())) {
+            builder.header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encode(request.form())));
+        } else {
+            builder.GET();
+        }
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        int status = response.statusCode();
+        if (status >= 300 && status < 400) {
+            String location = response.headers().firstValue("Location").orElse("");
+            boolean loginPage = location.contains("/login") && !request.path().equals("/login");
+            boolean loginFailed = request.path().equals("/login") && location.contains("error");
+            return !loginPage && !loginFailed;
+        }
+        return status >= 200 && status < 300;
+    }
+
+    private static String encode(Map<String, String> form) {
+        return form.entrySet().stream()
+            .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+            .collect(Collectors.joining("&"));
+    }
+}
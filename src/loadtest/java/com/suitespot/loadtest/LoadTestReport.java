@@ -0,0 +1,88 @@
+package com.suitespot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one load-test run: per scenario and per action throughput, latency percentiles
+ * (milliseconds) and SQL statements per request, plus the settings needed to judge whether two
+ * reports are comparable. Written as JSON; {@link #compare} prints the change against an earlier report.
+ */
+record LoadTestReport(Map<String, Object> settings, List<ScenarioResult> scenarios) {
+
+    record Latency(long requests, long errors, double throughputPerSecond,
+                   double p50, double p95, double p99, double max, double mean) {
+
+        static Latency of(Histogram histogram, long errors, double seconds) {
+            long count = histogram.getTotalCount();
+            return new Latency(count, errors, count / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue()),
+                count == 0 ? 0 : histogram.getMean() / 1000.0);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    record ScenarioResult(String name, int users, double seconds, Latency total,
+                          double statementsPerRequest, Map<String, Latency> actions) {
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    void write(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        MAPPER.writeValue(file, this);
+    }
+
+    void print() {
+        System.out.printf("%-18s %-22s %9s %7s %9s %9s %9s %9s %8s%n",
+            "scenario", "action", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "stmt/req");
+        for (ScenarioResult scenario : scenarios) {
+            Latency t = scenario.total();
+            System.out.printf("%-18s %-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %8.1f%n", scenario.name(), "(all)",
+                t.requests(), t.errors(), t.throughputPerSecond(), t.p50(), t.p95(), t.p99(), scenario.statementsPerRequest());
+            if (scenario.actions().size() > 1) {
+                scenario.actions().forEach((action, a) -> System.out.printf("%-18s %-22s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                    "", action, a.requests(), a.errors(), a.throughputPerSecond(), a.p50(), a.p95(), a.p99()));
+            }
+        }
+    }
+
+    /**
+     * Print throughput and p95/p99 of this run next to the same scenarios of an earlier report
+     */
+    void compare(File baselineFile) throws IOException {
+        Map<String, JsonNode> baseline = new LinkedHashMap<>();
+        for (JsonNode scenario : MAPPER.readTree(baselineFile).get("scenarios")) {
+            baseline.put(scenario.get("name").asText(), scenario.get("total"));
+        }
+        System.out.printf("%nCompared with %s%n", baselineFile);
+        System.out.printf("%-18s %18s %18s %18s%n", "scenario", "req/s", "p95 ms", "p99 ms");
+        for (ScenarioResult scenario : scenarios) {
+            JsonNode before = baseline.get(scenario.name());
+            if (before == null) {
+                continue;
+            }
+            Latency now = scenario.total();
+            System.out.printf("%-18s %18s %18s %18s%n", scenario.name(),
+                change(before.get("throughputPerSecond").asDouble(), now.throughputPerSecond()),
+                change(before.get("p95").asDouble(), now.p95()),
+                change(before.get("p99").asDouble(), now.p99()));
+        }
+    }
+
+    private static String change(double before, double now) {
+        return before == 0 ? String.format("%.1f", now) : String.format("%.1f (%+.0f%%)", now, (now - before) / before * 100);
+    }
+}
@@ -0,0 +1,250 @@
+package com.suitespot.loadtest;
+
+import com.suitespot.HotelManagementApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test: starts an embedded PostgreSQL (or uses jdbc-url), migrates it, fills it
+ * with DatasetGenerator, boots HotelManagementApplication on a random port and drives each scenario
+ * over HTTP with a fixed number of concurrent users. Every scenario gets a warm-up, then a measured window whose latency
+ * histogram and Hibernate statement count go into the report.
+ *
+ * Options (name=value, optionally prefixed with --): scenarios (comma list or "all"), scale
+ * (approximate bookings, default 10000), years (of booking history, default 2), users (default 16),
+ * warmup and duration (seconds, default 10 and 30), seed, profiles (Spring profiles for the app,
+ * e.g. "virtual"), app (comma list of application properties for the app, e.g.
+ * "auth.cache.enabled=false"), jdbc-url/db-user/db-password, seed-data (false to reuse an already
+ * generated external database), report (output file), baseline (earlier report to compare with).
+ */
+public final class LoadTestRunner {
+
+    private static final long HIGHEST_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int scale = Integer.parseInt(options.getOrDefault("scale", "10000"));
+        int users = Integer.parseInt(options.getOrDefault("users", "16"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int years = Integer.parseInt(options.getOrDefault("years", "2"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        EmbeddedPostgres embedded = null;
+        String jdbcUrl = options.get("jdbc-url");
+        String dbUser = options.getOrDefault("db-user", "postgres");
+        String dbPassword = options.getOrDefault("db-password", "");
+        if (jdbcUrl == null) {
+            embedded = EmbeddedPostgres.builder().start();
+            jdbcUrl = embedded.getJdbcUrl("postgres", "postgres");
+        }
+
+        ConfigurableApplicationContext context = null;
+        try {
+            DataSource dataSource = new DriverManagerDataSource(jdbcUrl, dbUser, dbPassword);
+            Flyway.configure().dataSource(dataSource).load().migrate();
+            DatasetGenerator.Summary data = Boolean.parseBoolean(options.getOrDefault("seed-data", "true"))
+                ? new DatasetGenerator(dataSource, DatasetGenerator.Settings.forBookings(scale, years, LocalDate.now(), seed,
+                    Runtime.getRuntime().availableProcessors())).generate()
+                : DatasetGenerator.count(dataSource);
+            System.out.printf("Dataset: %,d rooms, %,d guests, %,d bookings, %,d bills, %,d taxi requests%n",
+                data.rooms(), data.guests(), data.bookings(), data.bills(), data.taxiRequests());
+
+            // Passed as command-line arguments so they override application.properties
+            List<String> appArgs = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + dbUser,
+                "--spring.datasource.password=" + dbPassword,
+                "--server.port=0",
+                "--spring.jpa.properties.hibernate.generate_statistics=true"));
+            if (options.containsKey("profiles")) {
+                appArgs.add("--spring.profiles.active=" + options.get("profiles"));
+            }
+            if (options.containsKey("app")) {
+                for (String property : options.get("app").split(",")) {
+                    appArgs.add("--" + property.trim());
+                }
+            }
+            context = new SpringApplicationBuilder(HotelManagementApplication.class).run(appArgs.toArray(String[]::new));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            String baseUrl = "http://localhost:" + port;
+            LoadClient probe = new LoadClient(baseUrl, "admin", "admin123");
+            Map<String, Scenarios.Scenario> scenarios = Scenarios.all(probe.loginRequest());
+            String selected = options.getOrDefault("scenarios", "all");
+            List<String> names = "all".equals(selected) ? new ArrayList<>(scenarios.keySet()) : List.of(selected.split(","));
+
+            List<Partial> results = new ArrayList<>();
+            for (String name : names) {
+                Scenarios.Scenario scenario = scenarios.get(name.trim());
+                if (scenario == null) {
+                    throw new IllegalArgumentException("Unknown scenario: " + name + ", expected one of " + scenarios.keySet());
+                }
+                System.out.printf("Running %s: %ds warm-up, %ds measured, %d users%n", scenario.name(), warmup, duration, users);
+                run(scenario, baseUrl, data, users, warmup, seed);
+                long statementsBefore = statistics.getPrepareStatementCount();
+                Partial measured = run(scenario, baseUrl, data, users, duration, seed);
+                results.add(measured.withStatements(statistics.getPrepareStatementCount() - statementsBefore));
+            }
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("scale", data.bookings());
+            settings.put("users", users);
+            settings.put("durationSeconds", duration);
+            settings.put("profiles", options.getOrDefault("profiles", ""));
+            settings.put("app", options.getOrDefault("app", ""));
+            settings.put("database", embedded != null ? "embedded" : jdbcUrl);
+            settings.put("java", System.getProperty("java.version"));
+            settings.put("processors", Runtime.getRuntime().availableProcessors());
+            LoadTestReport report = new LoadTestReport(settings, results.stream().map(Partial::result).toList());
+
+            File output = new File(options.getOrDefault("report", "target/loadtest/loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+            report.write(output);
+            report.print();
+            System.out.println("Report written to " + output);
+            if (options.containsKey("baseline")) {
+                report.compare(new File(options.get("baseline")));
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private record Partial(String name, int users, double seconds, Histogram total,
+                           Map<String, Histogram> actions, Map<String, Long> errors, long statements) {
+
+        Partial withStatements(long count) {
+            return new Partial(name, users, seconds, total, actions, errors, count);
+        }
+
+        LoadTestReport.ScenarioResult result() {
+            Map<String, LoadTestReport.Latency> byAction = new LinkedHashMap<>();
+            actions.forEach((action, histogram) ->
+                byAction.put(action, LoadTestReport.Latency.of(histogram, errors.getOrDefault(action, 0L), seconds)));
+            long totalErrors = errors.values().stream().mapToLong(Long::longValue).sum();
+            long requests = total.getTotalCount();
+            return new LoadTestReport.ScenarioResult(name, users, seconds,
+                LoadTestReport.Latency.of(total, totalErrors, seconds),
+                requests == 0 ? 0 : (double) statements / requests, byAction);
+        }
+    }
+
+    /**
+     * Run one scenario with a fixed number of users for the given time and merge their histograms
+     */
+    private static Partial run(Scenarios.Scenario scenario, String baseUrl, DatasetGenerator.Summary data,
+                               int users, int seconds, long seed) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(users);
+        List<Future<Worker>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            Worker worker = new Worker(scenario, new LoadClient(baseUrl, "admin", "admin123"), data, new Random(seed + i));
+            futures.add(workers.submit(() -> worker.runUntil(deadline)));
+        }
+        Histogram total = newHistogram();
+        Map<String, Histogram> actions = new LinkedHashMap<>();
+        Map<String, Long> errors = new LinkedHashMap<>();
+        for (Future<Worker> future : futures) {
+            Worker worker = future.get();
+            worker.histograms.forEach((action, histogram) -> {
+                actions.computeIfAbsent(action, a -> newHistogram()).add(histogram);
+                total.add(histogram);
+            });
+            worker.errors.forEach((action, count) -> errors.merge(action, count, Long::sum));
+        }
+        workers.shutdown();
+        return new Partial(scenario.name(), users, seconds, total, actions, errors, 0);
+    }
+
+    private static final class Worker {
+        private final Scenarios.Scenario scenario;
+        private final LoadClient client;
+        private final DatasetGenerator.Summary data;
+        private final Random random;
+        private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+        private final Map<String, Long> errors = new HashMap<>();
+
+        Worker(Scenarios.Scenario scenario, LoadClient client, DatasetGenerator.Summary data, Random random) {
+            this.scenario = scenario;
+            this.client = client;
+            this.data = data;
+            this.random = random;
+        }
+
+        Worker runUntil(long deadline) throws Exception {
+            if (scenario.loggedIn() && !client.login()) {
+                throw new IllegalStateException("Login as admin failed");
+            }
+            while (System.nanoTime() < deadline) {
+                Scenarios.Action action = scenario.pick(random);
+                if (!scenario.loggedIn()) {
+                    client.reset();
+                }
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = client.send(action.request().apply(random, data));
+                } catch (IOException e) {
+                    ok = false;
+                }
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                histograms.computeIfAbsent(action.name(), a -> newHistogram()).recordValue(Math.min(micros, HIGHEST_MICROS));
+                if (!ok) {
+                    errors.merge(action.name(), 1L, Long::sum);
+                }
+            }
+            return this;
+        }
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_MICROS, 3);
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            if (!option.contains("=")) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            options.put(option.substring(0, option.indexOf('=')), option.substring(option.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,97 @@
+package com.suitespot.loadtest;
+
+import com.suitespot.loadtest.LoadClient.Request;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * The request mixes a load test can run. Each scenario is a weighted list of actions; a worker
+ * picks one action per iteration. All but "login" run with a logged-in session per worker.
+ */
+final class Scenarios {
+
+    record Action(String name, int weight, BiFunction<Random, DatasetGenerator.Summary, Request> request) {
+    }
+
+    record Scenario(String name, boolean loggedIn, List<Action> actions) {
+
+        Action pick(Random random) {
+            int total = actions.stream().mapToInt(Action::weight).sum();
+            int roll = random.nextInt(total);
+            for (Action action : actions) {
+                roll -= action.weight();
+                if (roll < 0) {
+                    return action;
+                }
+            }
+            return actions.get(actions.size() - 1);
+        }
+    }
+
+    private static final String[] ROOM_TYPES = {"", "SINGLE", "DOUBLE", "SUITE", "DELUXE", "PRESIDENTIAL"};
+
+    private Scenarios() {
+    }
+
+    static Map<String, Scenario> all(LoadClient.Request loginRequest) {
+        Action login = new Action("login", 1, (random, data) -> loginRequest);
+        Action dashboard = new Action("dashboard", 1, (random, data) -> Request.get("/dashboard"));
+        Action reports = new Action("reports", 1, (random, data) -> Request.get("/admin/reports"));
+        Action bookingList = new Action("booking-list-search", 1, (random, data) ->
+            Request.get("/bookings?search=" + lastName(random)));
+        Action availability = new Action("availability-search", 1, (random, data) -> {
+            LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(90));
+            return Request.post("/bookings/search", Map.of(
+                "guestId", String.valueOf(1 + random.nextInt(data.guests())),
+                "checkInDate", checkIn.toString(),
+                "checkOutDate", checkIn.plusDays(1 + random.nextInt(5)).toString(),
+                "roomType", ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]));
+        });
+        Action createBooking = new Action("booking-create", 1, (random, data) -> {
+            LocalDate checkIn = LocalDate.now().plusDays(30 + random.nextInt(300));
+            return Request.post("/bookings", Map.of(
+                "guestId", String.valueOf(1 + random.nextInt(data.guests())),
+                "roomId", String.valueOf(1 + random.nextInt(data.rooms())),
+                "checkInDate", checkIn.toString(),
+                "checkOutDate", checkIn.plusDays(1 + random.nextInt(5)).toString(),
+                "specialRequests", "load test"));
+        });
+        Action checkInSearch = new Action("checkin-search", 1, (random, data) ->
+            Request.post("/checkin-checkout/checkin/search", Map.of("query", fullName(random))));
+        Action checkOutSearch = new Action("checkout-search", 1, (random, data) ->
+            Request.post("/checkin-checkout/checkout/search", Map.of("query", lastName(random))));
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("login", new Scenario("login", false, List.of(login)));
+        scenarios.put("booking-search", new Scenario("booking-search", true, List.of(
+            weighted(bookingList, 1), weighted(availability, 1))));
+        scenarios.put("booking-create", new Scenario("booking-create", true, List.of(createBooking)));
+        scenarios.put("checkin-checkout", new Scenario("checkin-checkout", true, List.of(
+            weighted(checkInSearch, 2), weighted(checkOutSearch, 1))));
+        scenarios.put("dashboard", new Scenario("dashboard", true, List.of(dashboard)));
+        scenarios.put("reports", new Scenario("reports", true, List.of(reports)));
+        // A front-desk shift: mostly lookups, few writes, the occasional report
+        scenarios.put("mixed", new Scenario("mixed", true, List.of(
+            weighted(dashboard, 20), weighted(bookingList, 20), weighted(availability, 20),
+            weighted(checkInSearch, 15), weighted(checkOutSearch, 10), weighted(createBooking, 10),
+            weighted(reports, 5))));
+        return scenarios;
+    }
+
+    private static Action weighted(Action action, int weight) {
+        return new Action(action.name(), weight, action.request());
+    }
+
+    private static String lastName(Random random) {
+        return DatasetGenerator.LAST_NAMES[random.nextInt(DatasetGenerator.LAST_NAMES.length)];
+    }
+
+    private static String fullName(Random random) {
+        return DatasetGenerator.FIRST_NAMES[random.nextInt(DatasetGenerator.FIRST_NAMES.length)] + " " + lastName(random);
+    }
+}
@@ -0,0 +1,109 @@
+package com.suitespot.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Adjusts Hikari's maximum-pool-size within db.pool.adaptive.min-size..max-size.
+ * Each interval compares the mean connection hold time with a baseline (the lowest smoothed hold
+ * time seen, slowly decayed upwards):
+ * - threads waiting for a connection and hold time near baseline: the pool is the bottleneck, grow by one
+ * - hold time well above baseline: the database is saturated, more connections would only queue there, shrink by one
+ * - no waiters and more than half the pool idle: shrink by one
+ */
+@Component
+public class AdaptivePoolSizer {
+
+    private static final double SMOOTHING = 0.3;
+    private static final double BASELINE_DECAY = 1.01;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DatabasePoolProperties databasePoolProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HikariDataSource hikari;
+    private InstrumentedDataSource instrumented;
+
+    private double smoothedHoldMillis = -1;
+    private double baselineHoldMillis = -1;
+    private volatile String lastDecision = "none";
+
+    @PostConstruct
+    public void init() {
+        try {
+            hikari = dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            hikari = null;
+        }
+        instrumented = dataSource instanceof InstrumentedDataSource source ? source : null;
+        if (hikari != null) {
+            Gauge.builder("db.pool.adaptive.baseline", () -> baselineHoldMillis)
+                    .description("Baseline connection hold time in ms used by the adaptive pool sizer")
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${db.pool.adaptive.interval-ms:10000}", initialDelay = 30000)
+    public void adjust() {
+        DatabasePoolProperties.Adaptive adaptive = databasePoolProperties.getAdaptive();
+        if (!adaptive.isEnabled() || hikari == null || instrumented == null || hikari.getHikariPoolMXBean() == null) {
+            return;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        HikariConfigMXBean config = hikari.getHikariConfigMXBean();
+
+        double meanHold = instrumented.drainMeanHoldMillis();
+        if (meanHold >= 0) {
+            smoothedHoldMillis = smoothedHoldMillis < 0 ? meanHold
+                : SMOOTHING * meanHold + (1 - SMOOTHING) * smoothedHoldMillis;
+            baselineHoldMillis = baselineHoldMillis < 0 ? smoothedHoldMillis
+                : Math.min(smoothedHoldMillis, baselineHoldMillis * BASELINE_DECAY);
+        }
+
+        int size = config.getMaximumPoolSize();
+        int waiting = pool.getThreadsAwaitingConnection();
+        boolean saturated = baselineHoldMillis > 0
+            && smoothedHoldMillis > baselineHoldMillis * adaptive.getLatencyTolerance();
+
+        int target = size;
+        if (saturated) {
+            target = size - 1;
+            lastDecision = "shrink: database latency " + Math.round(smoothedHoldMillis) + "ms";
+        } else if (waiting > 0) {
+            target = size + 1;
+            lastDecision = "grow: " + waiting + " waiting";
+        } else if (pool.getIdleConnections() > size / 2) {
+            target = size - 1;
+            lastDecision = "shrink: idle";
+        } else {
+            lastDecision = "hold";
+        }
+        target = Math.max(adaptive.getMinSize(), Math.min(adaptive.getMaxSize(), target));
+        if (target != size) {
+            if (config.getMinimumIdle() > target) {
+                config.setMinimumIdle(target);
+            }
+            config.setMaximumPoolSize(target);
+        }
+    }
+
+    public String getLastDecision() {
+        return lastDecision;
+    }
+}
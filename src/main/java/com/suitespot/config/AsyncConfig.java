@@ -0,0 +1,95 @@
+package com.suitespot.config;
+
+import com.suitespot.entity.Room;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Executor for database backups so pg_dump never runs on a Tomcat request thread.
+     * A single worker keeps backups from competing with each other for disk and DB I/O.
+     */
+    @Bean(name = "backupExecutor")
+    public Executor backupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("backup-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for backup verification (checksums, pg_restore --list, scratch restores).
+     * Kept separate from backupExecutor so a long verification never delays a backup.
+     */
+    @Bean(name = "verificationExecutor")
+    public Executor verificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("backup-verify-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for room assignment runs: one task per room type, so more workers than types
+     * would sit idle. CallerRunsPolicy keeps a second concurrent run from being rejected.
+     */
+    @Bean(name = "assignmentExecutor")
+    public Executor assignmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int workers = Math.min(Room.RoomType.values().length, Runtime.getRuntime().availableProcessors());
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(Room.RoomType.values().length);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("assign-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that writes status events to SSE subscribers. Each subscriber drains its own
+     * queue in one task at a time, so the pool bounds concurrent writes, not connected clients.
+     */
+    @Bean(name = "eventExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor eventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * With spring.threads.virtual.enabled on Java 21, every drain task gets its own virtual thread,
+     * so thousands of open streams cost no platform threads while a write blocks.
+     * backupExecutor and verificationExecutor stay on platform threads: they are single-worker
+     * queues around external processes, where virtual threads buy nothing.
+     */
+    @Bean(name = "eventExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualEventExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
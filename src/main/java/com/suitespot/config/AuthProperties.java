@@ -0,0 +1,224 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "auth")
+public class AuthProperties {
+
+    /**
+     * Cache of loaded UserDetails used during login
+     * Maps to auth.cache.* in application.properties
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Password hashing
+     * Maps to auth.password.* in application.properties
+     */
+    private Password password = new Password();
+
+    /**
+     * Stateless signed-token sessions
+     * Maps to auth.stateless.* in application.properties
+     */
+    private Stateless stateless = new Stateless();
+
+    /**
+     * In-memory role index used by method security
+     * Maps to auth.roles.* in application.properties
+     */
+    private Roles roles = new Roles();
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Password getPassword() {
+        return password;
+    }
+
+    public void setPassword(Password password) {
+        this.password = password;
+    }
+
+    public Stateless getStateless() {
+        return stateless;
+    }
+
+    public void setStateless(Stateless stateless) {
+        this.stateless = stateless;
+    }
+
+    public Roles getRoles() {
+        return roles;
+    }
+
+    public void setRoles(Roles roles) {
+        this.roles = roles;
+    }
+
+    public static class Cache {
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached users
+         */
+        private long maxSize = 1000;
+
+        /**
+         * Seconds an entry stays valid after it was loaded
+         */
+        private long ttlSeconds = 300;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+
+    public static class Password {
+        /**
+         * BCrypt log rounds (4-31). Hashes with fewer rounds are re-hashed on the next successful login.
+         */
+        private int bcryptStrength = 10;
+
+        public int getBcryptStrength() {
+            return bcryptStrength;
+        }
+
+        public void setBcryptStrength(int bcryptStrength) {
+            this.bcryptStrength = bcryptStrength;
+        }
+    }
+
+    public static class Roles {
+        /**
+         * Milliseconds between reloads of the role index from the users table (read by RolePermissionMatrix)
+         */
+        private long reloadIntervalMs = 15000;
+
+        public long getReloadIntervalMs() {
+            return reloadIntervalMs;
+        }
+
+        public void setReloadIntervalMs(long reloadIntervalMs) {
+            this.reloadIntervalMs = reloadIntervalMs;
+        }
+    }
+
+    public static class Stateless {
+        /**
+         * Replace servlet sessions with an HMAC-signed cookie so any node can serve any request
+         */
+        private boolean enabled = false;
+
+        private String cookieName = "SUITESPOT_AUTH";
+
+        /**
+         * Token lifetime; tokens past half their lifetime are re-issued on use
+         */
+        private long ttlSeconds = 28800;
+
+        private boolean secureCookie = false;
+
+        /**
+         * Signing keys. The first key signs new tokens, the others are only accepted for verification,
+         * so a key can be rotated by prepending a new one and removing the old one after one TTL.
+         * All nodes must share the same list.
+         */
+        private List<Key> keys = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getCookieName() {
+            return cookieName;
+        }
+
+        public void setCookieName(String cookieName) {
+            this.cookieName = cookieName;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        public boolean isSecureCookie() {
+            return secureCookie;
+        }
+
+        public void setSecureCookie(boolean secureCookie) {
+            this.secureCookie = secureCookie;
+        }
+
+        public List<Key> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(List<Key> keys) {
+            this.keys = keys;
+        }
+    }
+
+    public static class Key {
+        private String id;
+
+        /**
+         * Base64 encoded secret, at least 32 bytes
+         */
+        private String secret;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
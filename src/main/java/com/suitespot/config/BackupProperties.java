@@ -6,32 +6,272 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix = "backup")
 public class BackupProperties {
-    
+
+    /**
+     * Directory backups are written to and verified in
+     */
+    private String location = System.getProperty("user.home") + java.io.File.separator + "suite_spot_backups";
+
     /**
      * PostgreSQL dump utility configuration
      * Maps to backup.pg-dump.path or backup.pgDump.path in application.properties
      * Spring Boot relaxed binding supports: pg-dump, pgDump, pg_dump
      */
     private PgDump pgDump = new PgDump();
-    
+
+    /**
+     * Retention policy applied after every successful backup
+     * Maps to backup.retention.* in application.properties
+     */
+    private Retention retention = new Retention();
+
+    /**
+     * Block-level incremental backups via pg_basebackup --incremental
+     * Maps to backup.incremental.* in application.properties
+     */
+    private Incremental incremental = new Incremental();
+
+    /**
+     * Background verification of existing backups
+     * Maps to backup.verification.* in application.properties
+     */
+    private Verification verification = new Verification();
+
+    /**
+     * Cron schedules for automatic backups
+     * Maps to backup.schedule.* in application.properties
+     */
+    private Schedule schedule = new Schedule();
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
     public PgDump getPgDump() {
         return pgDump;
     }
-    
+
     public void setPgDump(PgDump pgDump) {
         this.pgDump = pgDump;
     }
-    
+
+    public Retention getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Retention retention) {
+        this.retention = retention;
+    }
+
+    public Incremental getIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(Incremental incremental) {
+        this.incremental = incremental;
+    }
+
+    public Verification getVerification() {
+        return verification;
+    }
+
+    public void setVerification(Verification verification) {
+        this.verification = verification;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public void setSchedule(Schedule schedule) {
+        this.schedule = schedule;
+    }
+
     public static class PgDump {
         private String path;
-        
+
+        /**
+         * Output format: "directory" (supports parallel jobs) or "custom" (single file)
+         */
+        private String format = "directory";
+
+        /**
+         * Number of parallel dump jobs (-j), only used with the directory format
+         */
+        private int jobs = 4;
+
+        /**
+         * Compression level 0-9 (-Z), 0 disables compression
+         */
+        private int compression = 6;
+
         public String getPath() {
             return path;
         }
-        
+
         public void setPath(String path) {
             this.path = path;
         }
+
+        public String getFormat() {
+            return format;
+        }
+
+        public void setFormat(String format) {
+            this.format = format;
+        }
+
+        public int getJobs() {
+            return jobs;
+        }
+
+        public void setJobs(int jobs) {
+            this.jobs = jobs;
+        }
+
+        public int getCompression() {
+            return compression;
+        }
+
+        public void setCompression(int compression) {
+            this.compression = compression;
+        }
+    }
+
+    public static class Retention {
+        private boolean enabled = true;
+
+        /**
+         * Number of most recent days for which the newest backup is kept
+         */
+        private int daily = 7;
+
+        /**
+         * Number of most recent weeks for which the newest backup is kept
+         */
+        private int weekly = 4;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getDaily() {
+            return daily;
+        }
+
+        public void setDaily(int daily) {
+            this.daily = daily;
+        }
+
+        public int getWeekly() {
+            return weekly;
+        }
+
+        public void setWeekly(int weekly) {
+            this.weekly = weekly;
+        }
+    }
+
+    public static class Incremental {
+        /**
+         * Number of increments taken on top of a base backup before a new base is started
+         */
+        private int maxChainLength = 6;
+
+        /**
+         * Number of complete base + increment chains to keep
+         */
+        private int keepChains = 2;
+
+        public int getMaxChainLength() {
+            return maxChainLength;
+        }
+
+        public void setMaxChainLength(int maxChainLength) {
+            this.maxChainLength = maxChainLength;
+        }
+
+        public int getKeepChains() {
+            return keepChains;
+        }
+
+        public void setKeepChains(int keepChains) {
+            this.keepChains = keepChains;
+        }
     }
-}
 
+    public static class Verification {
+        private boolean enabled = true;
+
+        /**
+         * Delay between verification passes in milliseconds
+         */
+        private long intervalMs = 3600000;
+
+        /**
+         * Existing scratch database to restore logical backups into for row count comparison.
+         * Leave empty to only check checksums and the archive table of contents.
+         */
+        private String scratchDatabase;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public String getScratchDatabase() {
+            return scratchDatabase;
+        }
+
+        public void setScratchDatabase(String scratchDatabase) {
+            this.scratchDatabase = scratchDatabase;
+        }
+    }
+
+    public static class Schedule {
+        /**
+         * Spring cron expression for full backups, "-" disables the schedule
+         */
+        private String fullCron = "-";
+
+        /**
+         * Spring cron expression for incremental backups, "-" disables the schedule
+         */
+        private String incrementalCron = "-";
+
+        public String getFullCron() {
+            return fullCron;
+        }
+
+        public void setFullCron(String fullCron) {
+            this.fullCron = fullCron;
+        }
+
+        public String getIncrementalCron() {
+            return incrementalCron;
+        }
+
+        public void setIncrementalCron(String incrementalCron) {
+            this.incrementalCron = incrementalCron;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.suitespot.config;
+
+import com.suitespot.entity.BackupJob;
+import com.suitespot.service.BackupJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Registers the cron schedules from backup.schedule.* with the job queue.
+ * A scheduled run that finds another backup still in progress is skipped.
+ */
+@Configuration
+public class BackupScheduleConfig implements SchedulingConfigurer {
+
+    @Autowired
+    private BackupProperties backupProperties;
+
+    @Autowired
+    private BackupJobService backupJobService;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        register(taskRegistrar, backupProperties.getSchedule().getFullCron(), "full");
+        register(taskRegistrar, backupProperties.getSchedule().getIncrementalCron(), "incremental");
+    }
+
+    private void register(ScheduledTaskRegistrar taskRegistrar, String cron, String backupType) {
+        if (cron == null || cron.isBlank() || ScheduledTaskRegistrar.CRON_DISABLED.equals(cron.trim())) {
+            return;
+        }
+        taskRegistrar.addCronTask(() -> {
+            try {
+                backupJobService.submit(backupProperties.getLocation(), backupType, BackupJob.TriggerType.SCHEDULED);
+            } catch (IllegalStateException e) {
+                System.err.println("Skipping scheduled " + backupType + " backup: " + e.getMessage());
+            }
+        }, cron.trim());
+    }
+}
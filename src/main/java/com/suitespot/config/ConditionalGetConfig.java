@@ -0,0 +1,58 @@
+package com.suitespot.config;
+
+import com.suitespot.service.DataVersionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * ETags for the list pages staff keep open and refresh. Each page lists the aggregates its HTML
+ * is built from, including the layout's hotel name (settings).
+ *
+ * Single node only, hence off by default (rendering.etags.enabled). The version counters live in
+ * each node's memory and only see that node's writes, so behind several nodes, sticky sessions or
+ * not, a node would confirm a page another node has since changed. Read replicas break it too: a
+ * render after a write may still read the replica's old rows and be tagged with the new version,
+ * so the interceptors are not registered while db.routing is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "rendering.etags", name = "enabled", havingValue = "true")
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    /**
+     * Part of every ETag: counters restart at 0, and a new deployment may render differently
+     */
+    private static final String NODE_START = Long.toString(System.currentTimeMillis(), 36);
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ReadReplicaProperties readReplicaProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (readReplicaProperties.isEnabled()) {
+            System.err.println("rendering.etags.enabled ignored: ETags are not safe with db.routing.enabled");
+            return;
+        }
+        registry.addInterceptor(etags(DataVersionService.ROOMS, DataVersionService.BOOKINGS, DataVersionService.GUESTS))
+                .addPathPatterns("/dashboard");
+        registry.addInterceptor(etags(DataVersionService.BOOKINGS, DataVersionService.GUESTS, DataVersionService.ROOMS))
+                .addPathPatterns("/bookings");
+        registry.addInterceptor(etags(DataVersionService.ROOMS))
+                .addPathPatterns("/rooms");
+        registry.addInterceptor(etags(DataVersionService.TAXI, DataVersionService.BOOKINGS, DataVersionService.GUESTS,
+                        DataVersionService.ROOMS))
+                .addPathPatterns("/taxi");
+    }
+
+    private VersionedEtagInterceptor etags(String... aggregates) {
+        String[] all = new String[aggregates.length + 1];
+        System.arraycopy(aggregates, 0, all, 0, aggregates.length);
+        all[aggregates.length] = DataVersionService.SETTINGS;
+        return new VersionedEtagInterceptor(dataVersionService, NODE_START, all);
+    }
+}
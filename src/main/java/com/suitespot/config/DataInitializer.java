@@ -2,6 +2,7 @@ package com.suitespot.config;
 
 import com.suitespot.entity.User;
 import com.suitespot.repository.UserRepository;
+import com.suitespot.service.RolePermissionMatrix;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,6 +17,9 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RolePermissionMatrix rolePermissionMatrix;
+
     @Override
     public void run(String... args) throws Exception {
         // Create or update admin user
@@ -29,7 +33,7 @@ public class DataInitializer implements CommandLineRunner {
                 if (existingAdmin.getFullName() == null || existingAdmin.getFullName().isEmpty()) {
                     existingAdmin.setFullName("Administrator");
                 }
-                userRepository.save(existingAdmin);
+                rolePermissionMatrix.refreshUser(userRepository.save(existingAdmin));
             },
             () -> {
                 // Create new admin user
@@ -41,7 +45,7 @@ public class DataInitializer implements CommandLineRunner {
                         .role(User.Role.ADMIN)
                         .active(true)
                         .build();
-                userRepository.save(admin);
+                rolePermissionMatrix.refreshUser(userRepository.save(admin));
             }
         );
     }
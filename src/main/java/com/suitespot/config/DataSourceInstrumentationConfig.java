@@ -0,0 +1,35 @@
+package com.suitespot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceInstrumentationConfig {
+
+    /**
+     * Wrap the Boot-configured DataSource in InstrumentedDataSource when db.pool.instrumented is set.
+     * Static so the post-processor is registered before the DataSource is created. Hikari's own
+     * pool metrics (hikaricp.connections.*) still bind because the wrapper unwraps to the pool.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                       Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)
+                        && "dataSource".equals(beanName)
+                        && environment.getProperty("db.pool.instrumented", Boolean.class, true)) {
+                    return new InstrumentedDataSource(dataSource, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
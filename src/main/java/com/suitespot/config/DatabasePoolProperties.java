@@ -0,0 +1,94 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "db.pool")
+public class DatabasePoolProperties {
+
+    /**
+     * Record per-endpoint connection hold time (db.connection.hold)
+     */
+    private boolean instrumented = true;
+
+    /**
+     * Resize the Hikari pool at runtime from observed load and latency
+     * Maps to db.pool.adaptive.* in application.properties
+     */
+    private Adaptive adaptive = new Adaptive();
+
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    public void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    public Adaptive getAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(Adaptive adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public static class Adaptive {
+        private boolean enabled = false;
+
+        /**
+         * Bounds for maximum-pool-size
+         */
+        private int minSize = 5;
+
+        private int maxSize = 20;
+
+        private long intervalMs = 10000;
+
+        /**
+         * Mean hold time above baseline x this factor means the database is saturated
+         */
+        private double latencyTolerance = 2.0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinSize() {
+            return minSize;
+        }
+
+        public void setMinSize(int minSize) {
+            this.minSize = minSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public double getLatencyTolerance() {
+            return latencyTolerance;
+        }
+
+        public void setLatencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+        }
+    }
+}
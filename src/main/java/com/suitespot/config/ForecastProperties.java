@@ -0,0 +1,62 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "reports.forecast")
+public class ForecastProperties {
+
+    /**
+     * Nights from today that are forecast
+     */
+    private int horizonDays = 90;
+
+    /**
+     * Past nights the pickup curves are learned from
+     */
+    private int trainingDays = 365;
+
+    /**
+     * How many nights of the all-week average are blended into each weekday's pickup, so a weekday
+     * with little history leans on the others
+     */
+    private int weekdayPriorNights = 4;
+
+    /**
+     * When the nights that ended since the last run are added to the curves and the oldest dropped
+     */
+    private String refreshCron = "0 15 0 * * *";
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(int horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public int getTrainingDays() {
+        return trainingDays;
+    }
+
+    public void setTrainingDays(int trainingDays) {
+        this.trainingDays = trainingDays;
+    }
+
+    public int getWeekdayPriorNights() {
+        return weekdayPriorNights;
+    }
+
+    public void setWeekdayPriorNights(int weekdayPriorNights) {
+        this.weekdayPriorNights = weekdayPriorNights;
+    }
+
+    public String getRefreshCron() {
+        return refreshCron;
+    }
+
+    public void setRefreshCron(String refreshCron) {
+        this.refreshCron = refreshCron;
+    }
+}
@@ -0,0 +1,146 @@
+package com.suitespot.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suitespot.service.DataVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.inline.NoOpInliner;
+import org.thymeleaf.model.IModel;
+import org.thymeleaf.model.IModelFactory;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.processor.element.AbstractAttributeModelProcessor;
+import org.thymeleaf.processor.element.IElementModelStructureHandler;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Output cache for template fragments:
+ *
+ *   <div cache:fragment="${'room-grid:' + selectedType}" cache:depends="rooms">...</div>
+ *
+ * The element is rendered once and its HTML reused while the key expression evaluates to the same
+ * value and none of the DataVersionService aggregates listed in cache:depends has changed. Model
+ * attributes only used inside the element should be LazyContextVariables so a hit also skips the
+ * query. The key must cover everything the fragment shows: never cache per-user data or tokens
+ * (CSRF fields, usernames, role-dependent links).
+ *
+ * With rendering.fragment-cache.enabled=false the attributes are dropped and the element renders
+ * as usual. The versions are per node, so this is for single-node deployments; entries also
+ * expire after rendering.fragment-cache.ttl-seconds.
+ */
+@Component
+public class FragmentCacheDialect extends AbstractProcessorDialect {
+
+    public static final String PREFIX = "cache";
+
+    private static final String DEPENDS_ATTRIBUTE = "depends";
+
+    @Autowired
+    private RenderingProperties renderingProperties;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, String> fragments;
+
+    public FragmentCacheDialect() {
+        // Ahead of the standard dialect (1000) so a hit skips th:* processing on the element itself
+        super("Fragment cache", PREFIX, 900);
+    }
+
+    @PostConstruct
+    public void init() {
+        fragments = Caffeine.newBuilder()
+                .maximumSize(renderingProperties.getFragmentCache().getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(renderingProperties.getFragmentCache().getTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "fragments");
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+        return Set.of(new FragmentProcessor(dialectPrefix));
+    }
+
+    private class FragmentProcessor extends AbstractAttributeModelProcessor {
+
+        FragmentProcessor(String dialectPrefix) {
+            super(TemplateMode.HTML, dialectPrefix, null, false, "fragment", true, 100, false);
+        }
+
+        @Override
+        protected void doProcess(ITemplateContext context, IModel model, AttributeName attributeName,
+                                 String attributeValue, IElementModelStructureHandler structureHandler) {
+            IModelFactory modelFactory = context.getModelFactory();
+            IProcessableElementTag tag = (IProcessableElementTag) model.get(0);
+            String depends = tag.getAttributeValue(getDialectPrefix(), DEPENDS_ATTRIBUTE);
+            model.replace(0, modelFactory.removeAttribute(
+                modelFactory.removeAttribute(tag, attributeName), getDialectPrefix(), DEPENDS_ATTRIBUTE));
+
+            if (!renderingProperties.getFragmentCache().isEnabled()) {
+                return;
+            }
+
+            String html = fragments.get(key(context, attributeValue, depends), k -> render(context, model));
+            model.reset();
+            model.add(modelFactory.createText(html));
+            // The text is finished HTML: do not look for [[...]] in guest-entered values
+            structureHandler.setInliner(NoOpInliner.INSTANCE);
+        }
+
+        private String key(ITemplateContext context, String attributeValue, String depends) {
+            Object key = StandardExpressions.getExpressionParser(context.getConfiguration())
+                    .parseExpression(context, attributeValue)
+                    .execute(context);
+            StringBuilder sb = new StringBuilder(context.getTemplateData().getTemplate())
+                    .append('|').append(key)
+                    .append('|').append(context.getLocale());
+            if (depends != null) {
+                for (String aggregate : depends.split(",")) {
+                    String name = aggregate.trim();
+                    sb.append('|').append(name).append('=').append(dataVersionService.current(name));
+                }
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Renders the element on its own against the current context, so local variables from
+         * enclosing th:each / th:with blocks are visible
+         */
+        private String render(ITemplateContext context, IModel model) {
+            StringWriter markup = new StringWriter();
+            try {
+                model.write(markup);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            TemplateManager templateManager = context.getConfiguration().getTemplateManager();
+            TemplateModel parsed = templateManager.parseString(
+                context.getTemplateData(), markup.toString(), 0, 0, getTemplateMode(), false);
+            StringWriter output = new StringWriter();
+            templateManager.process(parsed, context, output);
+            return output.toString();
+        }
+    }
+}
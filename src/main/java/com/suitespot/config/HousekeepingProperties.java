@@ -0,0 +1,100 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "housekeeping")
+public class HousekeepingProperties {
+
+    /**
+     * Room attendants on shift; cleaning routes are planned across them
+     */
+    private List<String> attendants = new ArrayList<>(List.of("Attendant 1", "Attendant 2", "Attendant 3"));
+
+    /**
+     * Cleaning time of a vacated room
+     */
+    private int departureMinutes = 30;
+
+    /**
+     * Service time of a room whose guest stays on
+     */
+    private int stayoverMinutes = 15;
+
+    /**
+     * Time to take the cart to another floor, plus minutesPerFloor for every floor in between
+     */
+    private int floorChangeMinutes = 3;
+
+    private int minutesPerFloor = 1;
+
+    /**
+     * Floor of the linen room, where every route starts
+     */
+    private int startFloor = 1;
+
+    /**
+     * When the day's departure and stayover tasks are generated
+     */
+    private String generateCron = "0 0 7 * * *";
+
+    public List<String> getAttendants() {
+        return attendants;
+    }
+
+    public void setAttendants(List<String> attendants) {
+        this.attendants = attendants;
+    }
+
+    public int getDepartureMinutes() {
+        return departureMinutes;
+    }
+
+    public void setDepartureMinutes(int departureMinutes) {
+        this.departureMinutes = departureMinutes;
+    }
+
+    public int getStayoverMinutes() {
+        return stayoverMinutes;
+    }
+
+    public void setStayoverMinutes(int stayoverMinutes) {
+        this.stayoverMinutes = stayoverMinutes;
+    }
+
+    public int getFloorChangeMinutes() {
+        return floorChangeMinutes;
+    }
+
+    public void setFloorChangeMinutes(int floorChangeMinutes) {
+        this.floorChangeMinutes = floorChangeMinutes;
+    }
+
+    public int getMinutesPerFloor() {
+        return minutesPerFloor;
+    }
+
+    public void setMinutesPerFloor(int minutesPerFloor) {
+        this.minutesPerFloor = minutesPerFloor;
+    }
+
+    public int getStartFloor() {
+        return startFloor;
+    }
+
+    public void setStartFloor(int startFloor) {
+        this.startFloor = startFloor;
+    }
+
+    public String getGenerateCron() {
+        return generateCron;
+    }
+
+    public void setGenerateCron(String generateCron) {
+        this.generateCron = generateCron;
+    }
+}
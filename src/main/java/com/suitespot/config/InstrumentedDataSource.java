@@ -0,0 +1,106 @@
+package com.suitespot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps the pool so every borrowed connection records how long it was held, tagged with the
+ * handler pattern of the request that borrowed it ("none" for scheduled and background work).
+ * Exported as the db.connection.hold timer; the totals also feed AdaptivePoolSizer.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public static final String HOLD_TIMER = "db.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final LongAdder holdNanos = new LongAdder();
+    private final LongAdder holds = new LongAdder();
+
+    public InstrumentedDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    /**
+     * Mean hold time in milliseconds since the previous call, or -1 if no connection was returned
+     */
+    public double drainMeanHoldMillis() {
+        long count = holds.sumThenReset();
+        long nanos = holdNanos.sumThenReset();
+        return count == 0 ? -1 : nanos / 1_000_000.0 / count;
+    }
+
+    private Connection track(Connection connection) {
+        long start = System.nanoTime();
+        String endpoint = currentEndpoint();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "close" -> {
+                    if (closed.compareAndSet(false, true)) {
+                        record(endpoint, System.nanoTime() - start);
+                    }
+                    yield invoke(connection, method, args);
+                }
+                default -> invoke(connection, method, args);
+            });
+    }
+
+    private static Object invoke(Connection connection, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void record(String endpoint, long nanos) {
+        holdNanos.add(nanos);
+        holds.increment();
+        timers.computeIfAbsent(endpoint, uri -> Timer.builder(HOLD_TIMER)
+                .description("Time a pooled JDBC connection is held, by request handler")
+                .tag("uri", uri)
+                .register(meterRegistry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "none";
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : "unmapped";
+    }
+}
@@ -0,0 +1,30 @@
+package com.suitespot.config;
+
+import com.suitespot.service.StatusEventService;
+import com.suitespot.service.TaxiDispatchService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gauges for in-memory state that has no JDBC or HTTP metric of its own. Both read a counter
+ * already held in memory, so a Prometheus scrape never touches the database.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder taxiDispatchMetrics(TaxiDispatchService taxiDispatchService) {
+        return registry -> Gauge.builder("taxi.dispatch.queued", taxiDispatchService, TaxiDispatchService::getQueuedCount)
+            .description("Taxi requests waiting for a driver")
+            .register(registry);
+    }
+
+    @Bean
+    public MeterBinder statusEventMetrics(StatusEventService statusEventService) {
+        return registry -> Gauge.builder("events.subscribers", statusEventService, StatusEventService::getSubscriberCount)
+            .description("Connected Server-Sent Events subscribers")
+            .register(registry);
+    }
+}
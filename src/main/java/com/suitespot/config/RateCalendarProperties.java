@@ -0,0 +1,63 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rates.calendar")
+public class RateCalendarProperties {
+
+    /**
+     * Nights before today kept in the precomputed calendar (re-pricing recent stays, billing)
+     */
+    private int pastDays = 365;
+
+    /**
+     * Nights after today kept in the precomputed calendar. Stays outside the window are
+     * priced night by night from the rules, with the same result
+     */
+    private int futureDays = 730;
+
+    /**
+     * When the window is moved forward to the new day
+     */
+    private String rebuildCron = "0 5 0 * * *";
+
+    /**
+     * How often the active rules are compared with the compiled ones, to pick up changes made on
+     * other nodes
+     */
+    private long refreshIntervalMs = 60000;
+
+    public int getPastDays() {
+        return pastDays;
+    }
+
+    public void setPastDays(int pastDays) {
+        this.pastDays = pastDays;
+    }
+
+    public int getFutureDays() {
+        return futureDays;
+    }
+
+    public void setFutureDays(int futureDays) {
+        this.futureDays = futureDays;
+    }
+
+    public String getRebuildCron() {
+        return rebuildCron;
+    }
+
+    public void setRebuildCron(String rebuildCron) {
+        this.rebuildCron = rebuildCron;
+    }
+
+    public long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+}
@@ -0,0 +1,73 @@
+package com.suitespot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write split, active when db.routing.enabled=true. Replaces Boot's single pool with
+ * primary + replica pools behind a ReadWriteRoutingDataSource. Each transaction is routed on its
+ * own because Hibernate already releases the connection after every resource-local transaction;
+ * this relies on spring.jpa.open-in-view staying false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * The primary pool, configured from spring.datasource.* exactly as Boot would
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                        DataSourceProperties primaryProperties,
+                                                        ReadReplicaProperties replicaProperties,
+                                                        MeterRegistry meterRegistry) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Replica config : replicaProperties.getReplicas()) {
+            String name = config.getName() != null ? config.getName() : "replica-" + (replicas.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(config.getUrl());
+            pool.setUsername(config.getUsername() != null ? config.getUsername() : primaryProperties.getUsername());
+            pool.setPassword(config.getPassword() != null ? config.getPassword() : primaryProperties.getPassword());
+            pool.setMaximumPoolSize(config.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            // Do not fail startup if a replica is down; it is simply skipped until it answers
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name, pool));
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            primaryDataSource, replicas, replicaProperties.getMaxLagSeconds());
+        routing.checkReplicas();
+        return routing;
+    }
+
+    /**
+     * The DataSource JPA, Flyway and JdbcTemplate use. The lazy proxy defers fetching the
+     * physical connection to the first statement, after the transaction's read-only flag is bound.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
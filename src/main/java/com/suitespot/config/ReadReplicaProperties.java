@@ -0,0 +1,113 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "db.routing")
+public class ReadReplicaProperties {
+
+    /**
+     * Route read-only transactions declared in application code to the replicas below
+     */
+    private boolean enabled = false;
+
+    /**
+     * A replica further behind the primary than this is skipped until it catches up
+     */
+    private double maxLagSeconds = 10;
+
+    private long lagCheckIntervalMs = 5000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public void setMaxLagSeconds(double maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public long getLagCheckIntervalMs() {
+        return lagCheckIntervalMs;
+    }
+
+    public void setLagCheckIntervalMs(long lagCheckIntervalMs) {
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public static class Replica {
+        private String name;
+
+        private String url;
+
+        /**
+         * Defaults to spring.datasource.username/password
+         */
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 5;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.suitespot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions declared in application code to a healthy read replica and
+ * everything else to the primary. Spring Data's implicit read-only transactions on repository
+ * methods stay on the primary, so ordinary desk flows always read their own writes; only methods
+ * annotated @Transactional(readOnly = true) in com.suitespot go to replicas.
+ *
+ * Replicas are polled for replication lag; one that is too far behind, or that fails to hand
+ * out a connection, is skipped until the next successful check. With no healthy replica every
+ * read goes to the primary. Must sit behind a LazyConnectionDataSourceProxy so the read-only flag
+ * is known when the connection is fetched.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public static class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = -1;
+        private volatile String lastError;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public double getLagSeconds() {
+            return lagSeconds;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, double maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = routesToReplica() ? nextHealthyReplica() : null;
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private static boolean routesToReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && !name.startsWith("org.springframework.");
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${db.routing.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                replica.lagSeconds = lag;
+                replica.healthy = lag <= maxLagSeconds;
+                replica.lastError = replica.healthy ? null : String.format("Lag %.1fs exceeds %.1fs", lag, maxLagSeconds);
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void markDown(Replica replica, String error) {
+        if (replica.healthy) {
+            System.err.println("Warning: read replica " + replica.name + " unavailable, reads fall back to primary: " + error);
+        }
+        replica.healthy = false;
+        replica.lastError = error;
+    }
+
+    public List<Replica> getReplicas() {
+        return new ArrayList<>(replicas);
+    }
+
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,89 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rendering")
+public class RenderingProperties {
+
+    private FragmentCache fragmentCache = new FragmentCache();
+
+    private Etags etags = new Etags();
+
+    public static class FragmentCache {
+
+        /**
+         * Serve cache:fragment elements from memory until a cache:depends aggregate changes.
+         * Single node only: the versions are per node, so another node's writes go unnoticed
+         */
+        private boolean enabled = false;
+
+        /**
+         * Rendered fragments kept, least recently used evicted first
+         */
+        private long maximumSize = 500;
+
+        /**
+         * A fragment is re-rendered at the latest this long after it was cached, whatever the versions say
+         */
+        private long ttlSeconds = 60;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+
+    public static class Etags {
+
+        /**
+         * Weak ETags from data version counters on /dashboard, /bookings, /rooms and /taxi.
+         * Single node without read replicas only: the counters are not shared between nodes
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public FragmentCache getFragmentCache() {
+        return fragmentCache;
+    }
+
+    public void setFragmentCache(FragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
+    }
+
+    public Etags getEtags() {
+        return etags;
+    }
+
+    public void setEtags(Etags etags) {
+        this.etags = etags;
+    }
+}
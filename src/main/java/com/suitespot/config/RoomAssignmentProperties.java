@@ -0,0 +1,61 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rooms.assignment")
+public class RoomAssignmentProperties {
+
+    /**
+     * Arrivals up to this many days ahead are (re)assigned
+     */
+    private int horizonDays = 60;
+
+    /**
+     * Arrivals in the next N days keep their room (0: today's arrivals may still move)
+     */
+    private int freezeDays = 1;
+
+    /**
+     * Free gaps shorter than this many days between two stays (each holding its check-out day) are counted as stranded
+     */
+    private int strandedGapNights = 2;
+
+    /**
+     * Place guests in a higher room type when their own type is full
+     */
+    private boolean upgrades = true;
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(int horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public int getFreezeDays() {
+        return freezeDays;
+    }
+
+    public void setFreezeDays(int freezeDays) {
+        this.freezeDays = freezeDays;
+    }
+
+    public int getStrandedGapNights() {
+        return strandedGapNights;
+    }
+
+    public void setStrandedGapNights(int strandedGapNights) {
+        this.strandedGapNights = strandedGapNights;
+    }
+
+    public boolean isUpgrades() {
+        return upgrades;
+    }
+
+    public void setUpgrades(boolean upgrades) {
+        this.upgrades = upgrades;
+    }
+}
@@ -0,0 +1,35 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rooms.blocks")
+public class RoomBlockProperties {
+
+    /**
+     * Longest block that can be placed in one go, in nights
+     */
+    private int maxNights = 365;
+
+    /**
+     * When rooms are taken out of order for blocks starting today and handed back after blocks ended
+     */
+    private String syncCron = "0 5 0 * * *";
+
+    public int getMaxNights() {
+        return maxNights;
+    }
+
+    public void setMaxNights(int maxNights) {
+        this.maxNights = maxNights;
+    }
+
+    public String getSyncCron() {
+        return syncCron;
+    }
+
+    public void setSyncCron(String syncCron) {
+        this.syncCron = syncCron;
+    }
+}
@@ -0,0 +1,73 @@
+package com.suitespot.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Warns at startup when an index required by the hot repository queries is missing.
+ * The expected set mirrors the indexes created by db/migration (V2 onwards).
+ */
+@Component
+public class SchemaIndexVerifier {
+
+    /**
+     * Index name -> table, for every index the repository query methods rely on
+     */
+    static final Map<String, String> EXPECTED_INDEXES = Map.ofEntries(
+        Map.entry("idx_bookings_status", "bookings"),
+        Map.entry("idx_bookings_guest_id", "bookings"),
+        Map.entry("idx_bookings_check_in_date", "bookings"),
+        Map.entry("idx_bookings_room_dates", "bookings"),
+        Map.entry("idx_bookings_created_at", "bookings"),
+        Map.entry("idx_taxi_requests_status", "taxi_requests"),
+        Map.entry("idx_taxi_requests_booking_id", "taxi_requests"),
+        Map.entry("idx_taxi_requests_driver_id", "taxi_requests"),
+        Map.entry("idx_rooms_status", "rooms"),
+        Map.entry("idx_rooms_type", "rooms"),
+        Map.entry("idx_guests_id_number", "guests"),
+        Map.entry("idx_backup_jobs_status", "backup_jobs"),
+        Map.entry("idx_rate_rules_room_type", "rate_rules"),
+        Map.entry("idx_housekeeping_tasks_date_status", "housekeeping_tasks"),
+        Map.entry("idx_bookings_check_out_date", "bookings"),
+        Map.entry("idx_room_blocks_room_dates", "room_blocks"),
+        Map.entry("idx_room_blocks_end_date", "room_blocks")
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        try {
+            List<String> missing = findMissingIndexes();
+            for (String indexName : missing) {
+                System.err.println(String.format(
+                    "Warning: expected index %s on table %s is missing. Run the Flyway migrations to create it.",
+                    indexName, EXPECTED_INDEXES.get(indexName)));
+            }
+        } catch (Exception e) {
+            // Never block startup because the catalog could not be read
+            System.err.println("Warning: could not verify database indexes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compare the expected index set against pg_indexes for the current schema
+     */
+    public List<String> findMissingIndexes() {
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class));
+        return EXPECTED_INDEXES.keySet().stream()
+                .filter(name -> !present.contains(name))
+                .sorted()
+                .toList();
+    }
+}
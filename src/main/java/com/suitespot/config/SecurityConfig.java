@@ -1,26 +1,61 @@
 package com.suitespot.config;
 
 import com.suitespot.service.CustomUserDetailsService;
+import com.suitespot.service.RolePermissionMatrix;
+import com.suitespot.service.SignedTokenService;
+import com.suitespot.service.UserDetailsCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private AuthProperties authProperties;
+
+    @Autowired
+    private SignedTokenService signedTokenService;
+
+    @Autowired
+    private RolePermissionMatrix rolePermissionMatrix;
+
+    /**
+     * New hashes are stored as {bcrypt} with the configured strength. Existing hashes without
+     * an id prefix are matched as plain BCrypt and upgraded on the next successful login.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        String idForEncode = "bcrypt";
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(authProperties.getPassword().getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(idForEncode, bcrypt);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -28,6 +63,9 @@ public class SecurityConfig {
         DaoAuthenticationProvider auth = new DaoAuthenticationProvider();
         auth.setUserDetailsService(userDetailsService);
         auth.setPasswordEncoder(passwordEncoder());
+        auth.setUserCache(userDetailsCache);
+        // Re-hash passwords whose encoding or strength is outdated after a successful login
+        auth.setUserDetailsPasswordService(userDetailsService);
         return auth;
     }
 
@@ -35,8 +73,13 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .authenticationProvider(authenticationProvider())
+            // Pages require a login; finer-grained checks are @PreAuthorize against RolePermissionMatrix
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/**").permitAll()
+                .requestMatchers("/login", "/register", "/about", "/error", "/actuator/health").permitAll()
+                .requestMatchers(StaticAssetsConfig.PATH_PATTERN).permitAll()
+                .requestMatchers("/actuator/**").access((authentication, context) -> new AuthorizationDecision(
+                    rolePermissionMatrix.allows(authentication.get(), RolePermissionMatrix.Permission.VIEW_METRICS)))
+                .anyRequest().authenticated()
             )
             .csrf(csrf -> csrf.disable()) // Disable CSRF for development (enable in production)
             .formLogin(form -> form
@@ -48,6 +91,23 @@ public class SecurityConfig {
                 .logoutSuccessUrl("/login")
                 .permitAll()
             );
+
+        AuthProperties.Stateless stateless = authProperties.getStateless();
+        if (stateless.isEnabled()) {
+            // No HttpSession: the signed cookie carries the authentication between requests
+            StatelessTokenFilter tokenFilter = new StatelessTokenFilter(signedTokenService, stateless);
+            http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .addFilterBefore(tokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .formLogin(form -> form
+                    .successHandler((request, response, authentication) -> {
+                        tokenFilter.onAuthenticationSuccess(response, authentication);
+                        response.sendRedirect(request.getContextPath() + "/dashboard");
+                    })
+                )
+                .logout(logout -> logout.deleteCookies(stateless.getCookieName()));
+        }
         return http.build();
     }
 }
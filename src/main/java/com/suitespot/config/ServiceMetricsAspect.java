@@ -0,0 +1,75 @@
+package com.suitespot.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Times every public method of the front-desk services as service.method, tagged with service,
+ * method, outcome (success/error) and the exception class. The timer's count doubles as the call
+ * and error counter; service.method.active gauges the calls in flight per service. Percentiles and
+ * histogram buckets are configured under management.metrics.distribution.* in application.properties.
+ *
+ * Calls a service makes to its own methods bypass the proxy and are counted once, at the outer call.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String TIMER = "service.method";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.suitespot.service.BookingService.*(..))"
+        + " || execution(public * com.suitespot.service.BillingService.*(..))"
+        + " || execution(public * com.suitespot.service.RoomService.*(..))"
+        + " || execution(public * com.suitespot.service.GuestService.*(..))"
+        + " || execution(public * com.suitespot.service.TaxiService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        AtomicInteger inFlight = active.computeIfAbsent(service, this::registerActiveGauge);
+
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder(TIMER)
+                .description("Front-desk service method latency")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+
+    private AtomicInteger registerActiveGauge(String service) {
+        AtomicInteger counter = new AtomicInteger();
+        Gauge.builder(TIMER + ".active", counter, AtomicInteger::get)
+            .description("Service method calls in flight")
+            .tag("service", service)
+            .register(meterRegistry);
+        return counter;
+    }
+}
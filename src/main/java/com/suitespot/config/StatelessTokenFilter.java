@@ -0,0 +1,106 @@
+package com.suitespot.config;
+
+import com.suitespot.service.SignedTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authenticates requests from the signed token cookie when auth.stateless.enabled is set.
+ * The token alone establishes the principal and role, so no session and no users table lookup
+ * is needed and any node behind the load balancer can serve the request.
+ */
+public class StatelessTokenFilter extends OncePerRequestFilter {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final SignedTokenService signedTokenService;
+    private final AuthProperties.Stateless properties;
+
+    public StatelessTokenFilter(SignedTokenService signedTokenService, AuthProperties.Stateless properties) {
+        this.signedTokenService = signedTokenService;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String value = readCookie(request);
+        if (value != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Optional<SignedTokenService.Token> token = signedTokenService.validate(value);
+            if (token.isPresent()) {
+                SignedTokenService.Token t = token.get();
+                List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ROLE_PREFIX + t.role()));
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(t.username(), null, authorities));
+                SecurityContextHolder.setContext(context);
+                if (signedTokenService.needsRefresh(t, signedTokenService.keyIdOf(value))) {
+                    writeCookie(response, signedTokenService.issue(t.username(), t.role()));
+                }
+            } else {
+                clearCookie(response);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Form login success: issue the token for the authenticated user's role
+     */
+    public void onAuthenticationSuccess(HttpServletResponse response, Authentication authentication) {
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse("");
+        writeCookie(response, signedTokenService.issue(authentication.getName(), role));
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (properties.getCookieName().equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String token) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(token, Duration.ofSeconds(properties.getTtlSeconds())));
+    }
+
+    private void clearCookie(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO));
+    }
+
+    private String cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(properties.getCookieName(), value)
+                .path("/")
+                .httpOnly(true)
+                .secure(properties.isSecureCookie())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build()
+                .toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.suitespot.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * Serves static/assets/** under content-hashed URLs. @{/assets/css/app.css} in a template is
+ * rewritten to /assets/css/app-<md5>.css (hash computed on first use, then cached), so a response
+ * can be cached for a year and marked immutable: a changed file gets a new URL. The .gz variants
+ * written by the build (maven-antrun-plugin, see pom.xml) are sent as-is to clients that accept
+ * gzip, as are .br files if present next to the original.
+ */
+@Configuration
+public class StaticAssetsConfig implements WebMvcConfigurer {
+
+    public static final String PATH_PATTERN = "/assets/**";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(PATH_PATTERN)
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Lets Thymeleaf's @{} link expressions pick up the fingerprinted URLs
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        FilterRegistrationBean<ResourceUrlEncodingFilter> registration =
+                new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
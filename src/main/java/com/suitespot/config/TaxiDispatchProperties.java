@@ -0,0 +1,140 @@
+package com.suitespot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "taxi.dispatch")
+public class TaxiDispatchProperties {
+
+    /**
+     * Assign queued requests to free drivers automatically
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pause between dispatch passes
+     */
+    private long intervalMs = 5000;
+
+    /**
+     * Guests staying in these room types are treated as VIP
+     */
+    private List<String> vipRoomTypes = new ArrayList<>(List.of("SUITE", "PRESIDENTIAL"));
+
+    /**
+     * A VIP request is queued as if it had been made this many minutes earlier,
+     * so VIPs go first without starving older regular requests
+     */
+    private long vipPriorityMinutes = 15;
+
+    /**
+     * Where drivers wait and where the pickup location defaults to
+     */
+    private String baseLocation = "Hotel";
+
+    /**
+     * Time for a driver to get the car to the door once assigned
+     */
+    private long pickupLeadMinutes = 3;
+
+    /**
+     * Travel time used for routes missing from the distance table
+     */
+    private long defaultTravelMinutes = 15;
+
+    /**
+     * Estimated fare = base fare + per-km rate x table distance
+     */
+    private double baseFare = 5.0;
+
+    private double ratePerKm = 1.5;
+
+    /**
+     * CSV of from,to,minutes,km rows for the default distance table
+     */
+    private String distanceTable = "classpath:taxi/distance-table.csv";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public List<String> getVipRoomTypes() {
+        return vipRoomTypes;
+    }
+
+    public void setVipRoomTypes(List<String> vipRoomTypes) {
+        this.vipRoomTypes = vipRoomTypes;
+    }
+
+    public long getVipPriorityMinutes() {
+        return vipPriorityMinutes;
+    }
+
+    public void setVipPriorityMinutes(long vipPriorityMinutes) {
+        this.vipPriorityMinutes = vipPriorityMinutes;
+    }
+
+    public String getBaseLocation() {
+        return baseLocation;
+    }
+
+    public void setBaseLocation(String baseLocation) {
+        this.baseLocation = baseLocation;
+    }
+
+    public long getPickupLeadMinutes() {
+        return pickupLeadMinutes;
+    }
+
+    public void setPickupLeadMinutes(long pickupLeadMinutes) {
+        this.pickupLeadMinutes = pickupLeadMinutes;
+    }
+
+    public long getDefaultTravelMinutes() {
+        return defaultTravelMinutes;
+    }
+
+    public void setDefaultTravelMinutes(long defaultTravelMinutes) {
+        this.defaultTravelMinutes = defaultTravelMinutes;
+    }
+
+    public double getBaseFare() {
+        return baseFare;
+    }
+
+    public void setBaseFare(double baseFare) {
+        this.baseFare = baseFare;
+    }
+
+    public double getRatePerKm() {
+        return ratePerKm;
+    }
+
+    public void setRatePerKm(double ratePerKm) {
+        this.ratePerKm = ratePerKm;
+    }
+
+    public String getDistanceTable() {
+        return distanceTable;
+    }
+
+    public void setDistanceTable(String distanceTable) {
+        this.distanceTable = distanceTable;
+    }
+}
@@ -0,0 +1,103 @@
+package com.suitespot.config;
+
+import com.suitespot.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.time.LocalDate;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Conditional GET for a page whose content only depends on the given DataVersionService
+ * aggregates. The weak ETag combines their versions with everything else the HTML varies by
+ * (user, query string, locale, date, node start), so a matching If-None-Match is answered with
+ * 304 before the controller runs: no query, no rendering.
+ *
+ * Pages showing a flash message or a model "error" get no ETag, so a one-off message is never
+ * replayed from the browser cache. The header is therefore only written in postHandle, once the
+ * model is known: a header already set cannot be taken back (setHeader(name, null) is ignored).
+ */
+public class VersionedEtagInterceptor implements HandlerInterceptor {
+
+    private static final String ERROR_ATTRIBUTE = "error";
+
+    private static final String ETAG_ATTRIBUTE = VersionedEtagInterceptor.class.getName() + ".etag";
+
+    private final DataVersionService dataVersionService;
+    private final List<String> aggregates;
+    private final String nodeStart;
+
+    public VersionedEtagInterceptor(DataVersionService dataVersionService, String nodeStart, String... aggregates) {
+        this.dataVersionService = dataVersionService;
+        this.nodeStart = nodeStart;
+        this.aggregates = List.of(aggregates);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        Map<String, ?> flash = RequestContextUtils.getInputFlashMap(request);
+        if (flash != null && !flash.isEmpty()) {
+            return true;
+        }
+        String etag = etag(request);
+        if (matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        String etag = (String) request.getAttribute(ETAG_ATTRIBUTE);
+        if (etag == null) {
+            return;
+        }
+        if (modelAndView != null && modelAndView.getModel().get(ERROR_ATTRIBUTE) != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        } else {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            // Stored, but revalidated on every navigation (replaces Spring Security's no-store)
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: a W/ prefix on either side is ignored
+     */
+    private static boolean matches(Enumeration<String> ifNoneMatch, String etag) {
+        String opaque = etag.substring(2);
+        while (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+            for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String etag(HttpServletRequest request) {
+        StringBuilder versions = new StringBuilder();
+        for (String aggregate : aggregates) {
+            versions.append('.').append(dataVersionService.current(aggregate));
+        }
+        int variant = Objects.hash(request.getRemoteUser(), request.getQueryString(), request.getLocale(), LocalDate.now());
+        return "W/\"" + nodeStart + '-' + Integer.toHexString(variant) + versions + '"';
+    }
+}
@@ -4,24 +4,35 @@ import com.suitespot.entity.User;
 import com.suitespot.entity.Booking;
 import com.suitespot.entity.SystemSettings;
 import com.suitespot.entity.Bill;
+import com.suitespot.entity.RateRule;
+import com.suitespot.entity.Room;
 import com.suitespot.service.UserService;
 import com.suitespot.service.BookingService;
 import com.suitespot.service.RoomService;
 import com.suitespot.service.SystemSettingsService;
+import com.suitespot.service.RateCalendarService;
+import com.suitespot.service.RoomAssignmentService;
+import com.suitespot.service.DemandForecastService;
 import com.suitespot.repository.BillRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import java.io.File;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/admin")
-@PreAuthorize("hasRole('ADMIN')")
+@PreAuthorize("@rolePermissionMatrix.allows(authentication, 'ADMIN_CONSOLE')")
 public class AdminController {
 
     @Autowired
@@ -41,6 +52,7 @@ public class AdminController {
 
     // Dashboard
     @GetMapping("/dashboard")
+    @Transactional(readOnly = true)
     public String adminDashboard(Model model) {
         try {
             List<Booking> totalBookings = bookingService.getAllBookings();
@@ -66,18 +78,21 @@ public class AdminController {
     }
 
     // User Management
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @GetMapping("/users")
     public String listUsers(Model model) {
         model.addAttribute("users", userService.getAllUsers());
         return "admin/users/list";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @GetMapping("/users/new")
     public String newUserForm(Model model) {
         model.addAttribute("roles", User.Role.values());
         return "admin/users/form";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @PostMapping("/users")
     public String createUser(
             @RequestParam String username,
@@ -96,6 +111,7 @@ public class AdminController {
         }
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @GetMapping("/users/{id}/edit")
     public String editUserForm(@PathVariable Long id, Model model) {
         User user = userService.getUserById(id)
@@ -105,6 +121,7 @@ public class AdminController {
         return "admin/users/form";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @PostMapping("/users/{id}")
     public String updateUser(@PathVariable Long id, @ModelAttribute User userDetails, RedirectAttributes redirectAttributes) {
         try {
@@ -117,6 +134,7 @@ public class AdminController {
         }
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')")
     @PostMapping("/users/{id}/delete")
     public String deleteUser(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         try {
@@ -130,12 +148,14 @@ public class AdminController {
     }
 
     // System Settings
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_SETTINGS')")
     @GetMapping("/settings")
     public String settingsPage(Model model) {
         model.addAttribute("settings", systemSettingsService.getSettings());
         return "admin/settings";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_SETTINGS')")
     @PostMapping("/settings")
     public String updateSettings(@ModelAttribute SystemSettings settings, RedirectAttributes redirectAttributes) {
         try {
@@ -148,6 +168,7 @@ public class AdminController {
         }
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_SETTINGS')")
     @PostMapping("/settings/reset")
     public String resetSettings(RedirectAttributes redirectAttributes) {
         try {
@@ -160,14 +181,125 @@ public class AdminController {
         }
     }
 
+    // Rate Calendar
+    @Autowired
+    private RateCalendarService rateCalendarService;
+
+    private static final int RATE_PREVIEW_NIGHTS = 14;
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_RATES')")
+    @GetMapping("/rates")
+    public String ratesPage(Model model) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> previewNights = today.datesUntil(today.plusDays(RATE_PREVIEW_NIGHTS)).toList();
+        Map<Room.RoomType, List<RateCalendarService.NightRate>> preview = new EnumMap<>(Room.RoomType.class);
+        for (Room.RoomType type : Room.RoomType.values()) {
+            preview.put(type, previewNights.stream().map(night -> rateCalendarService.nightRate(type, night)).toList());
+        }
+        model.addAttribute("rules", rateCalendarService.getAllRules());
+        model.addAttribute("previewNights", previewNights);
+        model.addAttribute("preview", preview);
+        model.addAttribute("roomTypes", Room.RoomType.values());
+        model.addAttribute("kinds", RateRule.Kind.values());
+        model.addAttribute("adjustments", RateRule.Adjustment.values());
+        model.addAttribute("daysOfWeek", DayOfWeek.values());
+        return "admin/rates";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_RATES')")
+    @PostMapping("/rates")
+    public String createRateRule(
+            @RequestParam String name,
+            @RequestParam Room.RoomType roomType,
+            @RequestParam RateRule.Kind kind,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) List<DayOfWeek> days,
+            @RequestParam RateRule.Adjustment adjustment,
+            @RequestParam BigDecimal adjustmentValue,
+            RedirectAttributes redirectAttributes) {
+        Integer dayMask = null;
+        if (days != null && !days.isEmpty() && days.size() < DayOfWeek.values().length) {
+            dayMask = days.stream().mapToInt(RateRule::dayBit).reduce(0, (a, b) -> a | b);
+        }
+        try {
+            rateCalendarService.saveRule(RateRule.builder()
+                    .name(name)
+                    .roomType(roomType)
+                    .kind(kind)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .daysOfWeek(dayMask)
+                    .adjustment(adjustment)
+                    .adjustmentValue(adjustmentValue)
+                    .active(true)
+                    .build());
+            redirectAttributes.addFlashAttribute("success", "Rate rule added: " + name);
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/admin/rates";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_RATES')")
+    @PostMapping("/rates/{id}/delete")
+    public String deleteRateRule(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        try {
+            rateCalendarService.deleteRule(id);
+            redirectAttributes.addFlashAttribute("success", "Rate rule deleted");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to delete rate rule: " + e.getMessage());
+        }
+        return "redirect:/admin/rates";
+    }
+
+    // Room Assignment
+    @Autowired
+    private RoomAssignmentService roomAssignmentService;
+
+    private static final int ASSIGNMENT_PREVIEW_MOVES = 200;
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
+    @GetMapping("/assignments")
+    public String assignmentsPage(Model model) {
+        RoomAssignmentService.Plan plan = roomAssignmentService.preview();
+        model.addAttribute("plan", plan);
+        model.addAttribute("moves", plan.moves().stream().limit(ASSIGNMENT_PREVIEW_MOVES).toList());
+        return "admin/assignments";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
+    @PostMapping("/assignments")
+    public String applyAssignments(RedirectAttributes redirectAttributes) {
+        try {
+            RoomAssignmentService.Plan plan = roomAssignmentService.apply();
+            redirectAttributes.addFlashAttribute("success", "Rooms reassigned: " + plan.moves().size()
+                + " of " + plan.arrivals() + " arrivals moved, stranded nights "
+                + plan.strandedNightsBefore() + " -> " + plan.strandedNightsAfter());
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/admin/assignments";
+    }
+
     // Database Backup
     @Autowired
     private com.suitespot.service.DatabaseBackupService databaseBackupService;
 
+    @Autowired
+    private com.suitespot.service.BackupVerificationService backupVerificationService;
+
+    @Autowired
+    private com.suitespot.config.BackupProperties backupProperties;
+
+    @Autowired
+    private com.suitespot.service.BackupJobService backupJobService;
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
     @GetMapping("/backup")
     public String backupPage(Model model) {
         // Default backup location
-        String defaultBackupLocation = System.getProperty("user.home") + File.separator + "suite_spot_backups";
+        String defaultBackupLocation = backupProperties.getLocation();
         model.addAttribute("backupLocation", defaultBackupLocation);
         
         // List existing backups and convert to safe format
@@ -178,10 +310,12 @@ public class AdminController {
                 for (File file : backupFiles) {
                     java.util.Map<String, Object> backupInfo = new java.util.HashMap<>();
                     backupInfo.put("name", file.getName());
-                    backupInfo.put("size", file.length());
+                    backupInfo.put("size", databaseBackupService.sizeOf(file.toPath()));
                     backupInfo.put("path", file.getAbsolutePath());
                     backupInfo.put("lastModified", java.nio.file.Files.getLastModifiedTime(
                         java.nio.file.Paths.get(file.getAbsolutePath())).toInstant());
+                    // Cached result only; verification itself runs on the verification executor
+                    backupInfo.put("verification", backupVerificationService.getResult(file.getAbsolutePath()));
                     backups.add(backupInfo);
                 }
                 model.addAttribute("backups", backups);
@@ -191,36 +325,101 @@ public class AdminController {
         } catch (Exception e) {
             model.addAttribute("backups", new java.util.ArrayList<>());
         }
+
+        model.addAttribute("incrementalChain", databaseBackupService.getCurrentChain(defaultBackupLocation)
+                .stream().map(File::getName).toList());
+        model.addAttribute("activeJobId", backupJobService.getActiveJobId().orElse(null));
+        model.addAttribute("recentRuns", databaseBackupService.getRecentRuns());
         
         return "admin/backup";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
     @PostMapping("/backup/create")
     public String createBackup(
             @RequestParam String backupLocation,
             @RequestParam(defaultValue = "full") String backupType,
             RedirectAttributes redirectAttributes) {
         try {
-            String backupPath = databaseBackupService.createBackup(backupLocation, backupType);
-            
-            // Verify backup
-            boolean isValid = databaseBackupService.verifyBackup(backupPath);
-            if (isValid) {
-                redirectAttributes.addFlashAttribute("success", 
-                    "Backup created successfully at: " + backupPath);
-            } else {
+            // pg_dump runs on the backup executor; the page polls the job's progress
+            com.suitespot.entity.BackupJob job = backupJobService.submit(
+                backupLocation, backupType, com.suitespot.entity.BackupJob.TriggerType.MANUAL);
+            redirectAttributes.addFlashAttribute("success", 
+                "Backup job " + job.getId() + " started in the background.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", 
+                "Failed to start backup: " + e.getMessage());
+        }
+        return "redirect:/admin/backup";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
+    @PostMapping("/backup/jobs")
+    @ResponseBody
+    public org.springframework.http.ResponseEntity<java.util.Map<String, Object>> submitBackupJob(
+            @RequestParam String backupLocation,
+            @RequestParam(defaultValue = "full") String backupType) {
+        try {
+            com.suitespot.entity.BackupJob job = backupJobService.submit(
+                backupLocation, backupType, com.suitespot.entity.BackupJob.TriggerType.MANUAL);
+            return org.springframework.http.ResponseEntity.accepted().body(backupJobService.getProgress(job));
+        } catch (IllegalStateException e) {
+            return org.springframework.http.ResponseEntity.status(org.springframework.http.HttpStatus.CONFLICT)
+                    .body(java.util.Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
+    @GetMapping("/backup/jobs/{id}")
+    @ResponseBody
+    public org.springframework.http.ResponseEntity<java.util.Map<String, Object>> backupJobProgress(@PathVariable Long id) {
+        return backupJobService.getJob(id)
+                .map(job -> org.springframework.http.ResponseEntity.ok(backupJobService.getProgress(job)))
+                .orElse(org.springframework.http.ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
+    @PostMapping("/backup/verify")
+    public String verifyBackup(@RequestParam String backupPath, RedirectAttributes redirectAttributes) {
+        try {
+            backupVerificationService.submit(java.nio.file.Paths.get(backupPath));
+            redirectAttributes.addFlashAttribute("success", 
+                "Verification queued. Results appear in the backup list when it completes.");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to queue verification: " + e.getMessage());
+        }
+        return "redirect:/admin/backup";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_BACKUPS')")
+    @PostMapping("/backup/combine")
+    public String combineIncrementalBackups(
+            @RequestParam String backupLocation,
+            @RequestParam String targetDirectory,
+            RedirectAttributes redirectAttributes) {
+        try {
+            if (databaseBackupService.getCurrentChain(backupLocation).isEmpty()) {
                 redirectAttributes.addFlashAttribute("error", 
-                    "Backup created but verification failed. Please check manually.");
+                    "No base backup found. Create an incremental backup first.");
+            } else {
+                databaseBackupService.restoreIncrementalChainAsync(backupLocation, targetDirectory);
+                redirectAttributes.addFlashAttribute("success", 
+                    "Combining the base backup and its increments into " + targetDirectory + " in the background.");
             }
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", 
-                "Failed to create backup: " + e.getMessage());
+                "Failed to combine backups: " + e.getMessage());
         }
         return "redirect:/admin/backup";
     }
 
     // Reports
+    @Autowired
+    private DemandForecastService demandForecastService;
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'VIEW_REPORTS')")
     @GetMapping("/reports")
+    @Transactional(readOnly = true)
     public String reportsPage(Model model) {
         try {
             // Get statistics for reports
@@ -245,6 +444,7 @@ public class AdminController {
             model.addAttribute("totalUsers", userService.getAllUsers() != null ? userService.getAllUsers().size() : 0);
             model.addAttribute("totalRooms", roomService.getAllRooms() != null ? roomService.getAllRooms().size() : 0);
             model.addAttribute("totalRevenue", totalRevenue);
+            model.addAttribute("forecast", demandForecastService.getForecast());
             
             return "admin/reports";
         } catch (Exception e) {
@@ -261,4 +461,16 @@ public class AdminController {
             return "admin/reports";
         }
     }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'VIEW_REPORTS')")
+    @PostMapping("/reports/forecast")
+    public String retrainForecast(RedirectAttributes redirectAttributes) {
+        try {
+            DemandForecastService.Forecast forecast = demandForecastService.retrain();
+            redirectAttributes.addFlashAttribute("success", "Forecast retrained on " + forecast.trainedNights() + " nights of history");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to retrain forecast: " + e.getMessage());
+        }
+        return "redirect:/admin/reports";
+    }
 }
@@ -57,7 +57,7 @@ public class AuthController {
 
     @GetMapping("/")
     public String redirectToDashboard(Authentication authentication) {
-        // Temporarily bypass login - redirect directly to dashboard for testing
+        // Unauthenticated users are sent on to /login by Spring Security
         return "redirect:/dashboard";
     }
 
@@ -5,14 +5,20 @@ import com.suitespot.entity.Guest;
 import com.suitespot.entity.Room;
 import com.suitespot.service.BookingService;
 import com.suitespot.service.GuestService;
+import com.suitespot.service.RateCalendarService;
 import com.suitespot.service.RoomService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/bookings")
@@ -27,7 +33,11 @@ public class BookingController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private RateCalendarService rateCalendarService;
+
     @GetMapping
+    @Transactional(readOnly = true)
     public String listBookings(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search,
@@ -116,11 +126,17 @@ public class BookingController {
         }
 
         List<Room> availableRooms = bookingService.searchAvailableRooms(checkInDate, checkOutDate, type);
+        Map<Long, BigDecimal> stayPrices = new HashMap<>();
+        for (Room room : availableRooms) {
+            stayPrices.put(room.getId(), rateCalendarService.priceStay(room, checkInDate, checkOutDate));
+        }
 
         model.addAttribute("guest", guest);
         model.addAttribute("checkInDate", checkInDate);
         model.addAttribute("checkOutDate", checkOutDate);
         model.addAttribute("availableRooms", availableRooms);
+        model.addAttribute("stayPrices", stayPrices);
+        model.addAttribute("nights", ChronoUnit.DAYS.between(checkInDate, checkOutDate));
         model.addAttribute("roomTypes", Room.RoomType.values());
         model.addAttribute("selectedType", roomType);
 
@@ -5,6 +5,7 @@ import com.suitespot.entity.Booking;
 import com.suitespot.entity.Room;
 import com.suitespot.service.BillingService;
 import com.suitespot.service.BookingService;
+import com.suitespot.service.HousekeepingService;
 import com.suitespot.service.RoomService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -27,6 +28,9 @@ public class CheckInOutController {
     @Autowired
     private BillingService billingService;
 
+    @Autowired
+    private HousekeepingService housekeepingService;
+
     // Check-in endpoints
     @GetMapping("/checkin")
     public String checkInPage() {
@@ -247,6 +251,9 @@ public class CheckInOutController {
                 System.err.println("Warning: Booking has no room assigned, skipping room status update");
             }
 
+            // An arrival no longer waits for this room: re-plan the cleaning order once checked in
+            housekeepingService.replanAfterCommit();
+
             model.addAttribute("booking", updatedBooking);
             model.addAttribute("success", "Guest checked in successfully! Room key assigned.");
             return "checkin-checkout/checkin-confirmation";
@@ -413,28 +420,8 @@ public class CheckInOutController {
         // Update booking status
         bookingService.updateBookingStatus(id, Booking.BookingStatus.CHECKED_OUT);
 
-        // Update room status back to available
-            Long roomId = booking.getRoom().getId();
-            if (roomId != null) {
-                try {
-                    roomService.updateRoomStatus(roomId, Room.RoomStatus.AVAILABLE);
-                } catch (IllegalStateException e) {
-                    // If room status transition is invalid, try to force it
-                    System.err.println("Warning: Standard room status update failed: " + e.getMessage());
-                    try {
-                        roomService.forceUpdateRoomStatus(roomId, Room.RoomStatus.AVAILABLE);
-                        System.out.println("Forced room status update to AVAILABLE");
-                    } catch (Exception ex) {
-                        System.err.println("Error forcing room status update: " + ex.getMessage());
-                        ex.printStackTrace();
-                        // Don't fail the check-out if room status update fails
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error updating room status: " + e.getMessage());
-                    e.printStackTrace();
-                    // Don't fail the check-out if room status update fails
-                }
-            }
+        // After commit, the room goes to housekeeping and becomes available once it has been cleaned
+        housekeepingService.roomVacatedAfterCommit(booking);
 
         model.addAttribute("booking", booking);
         model.addAttribute("bill", bill);
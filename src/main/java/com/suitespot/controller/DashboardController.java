@@ -6,6 +6,7 @@ import com.suitespot.repository.RoomRepository;
 import com.suitespot.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,6 +25,7 @@ public class DashboardController {
     private BookingService bookingService;
 
     @GetMapping
+    @Transactional(readOnly = true)
     public String dashboard(Model model) {
         // Minimal test - set all values to defaults first
         model.addAttribute("totalRooms", 0);
@@ -0,0 +1,24 @@
+package com.suitespot.controller;
+
+import com.suitespot.service.StatusEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class EventController {
+
+    @Autowired
+    private StatusEventService statusEventService;
+
+    /**
+     * Server-Sent Events stream of taxi, room, booking and housekeeping status changes
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return statusEventService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,59 @@
+package com.suitespot.controller;
+
+import com.suitespot.entity.HousekeepingTask;
+import com.suitespot.service.HousekeepingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.time.LocalDate;
+
+@Controller
+@RequestMapping("/housekeeping")
+public class HousekeepingController {
+
+    @Autowired
+    private HousekeepingService housekeepingService;
+
+    @GetMapping
+    public String board(Model model) {
+        model.addAttribute("plan", housekeepingService.getPlan());
+        return "housekeeping/board";
+    }
+
+    @PostMapping("/generate")
+    public String generate(RedirectAttributes redirectAttributes) {
+        try {
+            HousekeepingService.Plan plan = housekeepingService.generateTasks(LocalDate.now());
+            redirectAttributes.addFlashAttribute("success", "Today's tasks generated: " + plan.getOpenCount() + " open");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to generate tasks: " + e.getMessage());
+        }
+        return "redirect:/housekeeping";
+    }
+
+    @PostMapping("/tasks/{id}/start")
+    public String startTask(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        try {
+            housekeepingService.startTask(id);
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to start task: " + e.getMessage());
+        }
+        return "redirect:/housekeeping";
+    }
+
+    @PostMapping("/tasks/{id}/complete")
+    public String completeTask(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        try {
+            HousekeepingTask task = housekeepingService.completeTask(id);
+            redirectAttributes.addFlashAttribute("success", "Room " + task.getRoom().getRoomNumber() + " done");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to complete task: " + e.getMessage());
+        }
+        return "redirect:/housekeeping";
+    }
+}
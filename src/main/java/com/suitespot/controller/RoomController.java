@@ -1,11 +1,21 @@
 package com.suitespot.controller;
 
+import com.suitespot.entity.Booking;
 import com.suitespot.entity.Room;
+import com.suitespot.service.RoomBlockService;
 import com.suitespot.service.RoomService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.thymeleaf.context.LazyContextVariable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/rooms")
@@ -14,23 +24,82 @@ public class RoomController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private RoomBlockService roomBlockService;
+
     @GetMapping
     public String listRooms(@RequestParam(required = false) String type, Model model) {
+        Room.RoomType roomType = null;
         if (type != null && !type.isEmpty()) {
             try {
-                model.addAttribute("rooms", roomService.getRoomsByType(Room.RoomType.valueOf(type)));
+                roomType = Room.RoomType.valueOf(type);
                 model.addAttribute("selectedType", type);
             } catch (IllegalArgumentException e) {
-                model.addAttribute("rooms", roomService.getAllRooms());
+                // Unknown type: show all rooms
             }
-        } else {
-            model.addAttribute("rooms", roomService.getAllRooms());
         }
+        // Only read inside the cached room grid, so a fragment cache hit skips the query
+        Room.RoomType filter = roomType;
+        model.addAttribute("rooms", new LazyContextVariable<List<Room>>() {
+            @Override
+            protected List<Room> loadValue() {
+                return filter != null ? roomService.getRoomsByType(filter) : roomService.getAllRooms();
+            }
+        });
         model.addAttribute("roomTypes", Room.RoomType.values());
         model.addAttribute("roomStatuses", Room.RoomStatus.values());
         return "rooms/list";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
+    @GetMapping("/blocks")
+    public String blocksPage(Model model) {
+        model.addAttribute("blocks", roomBlockService.getCurrentAndUpcoming());
+        model.addAttribute("rooms", roomService.getAllRooms());
+        model.addAttribute("roomTypes", Room.RoomType.values());
+        model.addAttribute("today", LocalDate.now());
+        return "rooms/blocks";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
+    @PostMapping("/blocks")
+    public String createBlocks(
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) Integer floor,
+            @RequestParam(required = false) Room.RoomType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String reason,
+            RedirectAttributes redirectAttributes) {
+        try {
+            RoomBlockService.Result result = roomBlockService.createBlocks(
+                roomBlockService.resolveRooms(roomId, floor, type), startDate, endDate, reason);
+            redirectAttributes.addFlashAttribute("success", result.blocks().size() + " room(s) blocked");
+            if (!result.conflicts().isEmpty()) {
+                redirectAttributes.addFlashAttribute("error", "Still booked into the blocked nights, move these stays: "
+                    + result.conflicts().stream()
+                        .map(Booking::getId)
+                        .map(id -> "#" + id)
+                        .collect(Collectors.joining(", ")));
+            }
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/rooms/blocks";
+    }
+
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
+    @PostMapping("/blocks/{id}/delete")
+    public String deleteBlock(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        try {
+            roomBlockService.deleteBlock(id);
+            redirectAttributes.addFlashAttribute("success", "Room block removed");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to remove room block: " + e.getMessage());
+        }
+        return "redirect:/rooms/blocks";
+    }
+
     @GetMapping("/{id}")
     public String viewRoom(@PathVariable Long id, Model model) {
         Room room = roomService.getRoomById(id)
@@ -39,6 +108,7 @@ public class RoomController {
         return "rooms/view";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
     @GetMapping("/new")
     public String newRoomForm(Model model) {
         model.addAttribute("room", new Room());
@@ -47,6 +117,7 @@ public class RoomController {
         return "rooms/form";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
     @PostMapping
     public String saveRoom(@ModelAttribute Room room) {
         if (room.getId() == null) {
@@ -57,6 +128,7 @@ public class RoomController {
         return "redirect:/rooms";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
     @GetMapping("/{id}/edit")
     public String editRoomForm(@PathVariable Long id, Model model) {
         Room room = roomService.getRoomById(id)
@@ -67,6 +139,7 @@ public class RoomController {
         return "rooms/form";
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
     @PostMapping("/{id}")
     public String updateRoom(@PathVariable Long id, @ModelAttribute Room roomDetails) {
         // Ensure the ID is set from path variable
@@ -75,6 +148,7 @@ public class RoomController {
         return "redirect:/rooms/" + id;
     }
 
+    @PreAuthorize("@rolePermissionMatrix.allows(authentication, 'MANAGE_ROOMS')")
     @PostMapping("/{id}/delete")
     public String deleteRoom(@PathVariable Long id) {
         roomService.deleteRoom(id);
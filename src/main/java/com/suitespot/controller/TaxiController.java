@@ -1,7 +1,9 @@
 package com.suitespot.controller;
 
 import com.suitespot.entity.Booking;
+import com.suitespot.entity.TaxiDriver;
 import com.suitespot.entity.TaxiRequest;
+import com.suitespot.service.TaxiDispatchService;
 import com.suitespot.service.TaxiService;
 import com.suitespot.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,30 +22,68 @@ public class TaxiController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private TaxiDispatchService taxiDispatchService;
+
     @GetMapping
     public String listTaxiRequests(@RequestParam(required = false) String status, Model model) {
         if (status != null && !status.isEmpty()) {
             try {
-                model.addAttribute("taxiRequests", 
-                    taxiService.getAllTaxiRequests().stream()
-                        .filter(r -> r.getStatus().toString().equals(status))
-                        .toList());
+                model.addAttribute("taxiRequests",
+                    taxiService.getTaxiRequestsByStatus(TaxiRequest.RequestStatus.valueOf(status)));
                 model.addAttribute("selectedStatus", status);
-            } catch (Exception e) {
+            } catch (IllegalArgumentException e) {
                 model.addAttribute("taxiRequests", taxiService.getAllTaxiRequests());
             }
         } else {
             model.addAttribute("taxiRequests", taxiService.getAllTaxiRequests());
         }
         model.addAttribute("requestStatuses", TaxiRequest.RequestStatus.values());
+        model.addAttribute("queuedCount", taxiDispatchService.getQueuedCount());
+        model.addAttribute("availableDrivers", taxiDispatchService.getAvailableDriverCount());
         return "taxi/list";
     }
 
+    // Driver pool
+    @GetMapping("/drivers")
+    public String listDrivers(Model model) {
+        model.addAttribute("drivers", taxiDispatchService.getAllDrivers());
+        model.addAttribute("driverStatuses", taxiDispatchService.getDriverStatuses());
+        return "taxi/drivers";
+    }
+
+    @PostMapping("/drivers")
+    public String addDriver(
+            @RequestParam String name,
+            @RequestParam String vehicleNumber,
+            @RequestParam(required = false) String phoneNumber,
+            Model model) {
+        try {
+            taxiDispatchService.addDriver(TaxiDriver.builder()
+                    .name(name)
+                    .vehicleNumber(vehicleNumber)
+                    .phoneNumber(phoneNumber)
+                    .build());
+        } catch (Exception e) {
+            model.addAttribute("error", "Error adding driver: " + e.getMessage());
+            return listDrivers(model);
+        }
+        return "redirect:/taxi/drivers";
+    }
+
+    @PostMapping("/drivers/{id}/active")
+    public String setDriverActive(@PathVariable Long id, @RequestParam boolean active) {
+        taxiDispatchService.setDriverActive(id, active);
+        return "redirect:/taxi/drivers";
+    }
+
     @GetMapping("/{id}")
     public String viewTaxiRequest(@PathVariable Long id, Model model) {
         TaxiRequest taxiRequest = taxiService.getTaxiRequestById(id)
                 .orElseThrow(() -> new RuntimeException("Taxi request not found"));
         model.addAttribute("taxiRequest", taxiRequest);
+        model.addAttribute("queuePosition", taxiDispatchService.getQueuePosition(id));
+        model.addAttribute("vip", taxiDispatchService.isVip(taxiRequest));
         return "taxi/view";
     }
 
@@ -0,0 +1,65 @@
+package com.suitespot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "backup_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackupJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "backup_type", nullable = false)
+    private String backupType;
+
+    @Column(name = "backup_location", nullable = false)
+    private String backupLocation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false)
+    private TriggerType triggerType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Column(name = "backup_path")
+    private String backupPath;
+
+    @Column(name = "bytes_written")
+    private Long bytesWritten;
+
+    @Column(name = "expected_bytes")
+    private Long expectedBytes; // Size of the previous successful backup of the same type, used for the ETA
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum TriggerType {
+        MANUAL, SCHEDULED
+    }
+
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -30,6 +30,7 @@ public class Bill {
     private BigDecimal taxes;
 
     @Column(name = "discount")
+    @Builder.Default
     private BigDecimal discount = BigDecimal.ZERO;
 
     @Column(name = "total_amount")
@@ -39,6 +39,7 @@ public class Booking {
     private BigDecimal totalAmount;
 
     @Column(name = "discount")
+    @Builder.Default
     private BigDecimal discount = BigDecimal.ZERO;
 
     @Column(name = "special_requests")
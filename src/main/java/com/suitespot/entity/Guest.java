@@ -53,5 +53,6 @@ public class Guest {
     private String preferences; // Room preferences
 
     @Column(name = "active")
+    @Builder.Default
     private Boolean active = true;
 }
@@ -0,0 +1,70 @@
+package com.suitespot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "housekeeping_tasks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HousekeepingTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    // The stay that caused the task; null for rooms marked for cleaning by hand
+    @ManyToOne
+    @JoinColumn(name = "booking_id")
+    private Booking booking;
+
+    @Column(name = "task_date", nullable = false)
+    private LocalDate taskDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false)
+    private Kind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "attendant")
+    private String attendant;
+
+    // Position in the attendant's route for the day
+    @Column(name = "sequence")
+    private Integer sequence;
+
+    @Column(name = "estimated_minutes")
+    private Integer estimatedMinutes;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum Kind {
+        DEPARTURE, STAYOVER
+    }
+
+    public enum TaskStatus {
+        PENDING, IN_PROGRESS, DONE
+    }
+}
@@ -0,0 +1,88 @@
+package com.suitespot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "rate_rules")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false)
+    private Room.RoomType roomType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false)
+    private Kind kind;
+
+    // Nights from start to end inclusive; an open end applies indefinitely
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Bit (DayOfWeek.getValue() - 1) set for each night the rule applies; null means every night
+    @Column(name = "days_of_week")
+    private Integer daysOfWeek;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "adjustment", nullable = false)
+    private Adjustment adjustment;
+
+    // Percent for PERCENT, currency amount for AMOUNT and FIXED
+    @Column(name = "adjustment_value", nullable = false)
+    private BigDecimal adjustmentValue;
+
+    @Column(name = "active")
+    @Builder.Default
+    private Boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * Rules are applied in this order, so an event rate is applied on top of (or, FIXED, instead of)
+     * the season and weekday rates of the same night
+     */
+    public enum Kind {
+        SEASON, WEEKDAY, EVENT
+    }
+
+    public enum Adjustment {
+        PERCENT, AMOUNT, FIXED
+    }
+
+    public boolean appliesOn(LocalDate night) {
+        return (startDate == null || !night.isBefore(startDate))
+            && (endDate == null || !night.isAfter(endDate))
+            && includesDay(night.getDayOfWeek());
+    }
+
+    public boolean includesDay(DayOfWeek day) {
+        return daysOfWeek == null || (daysOfWeek & dayBit(day)) != 0;
+    }
+
+    public static int dayBit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
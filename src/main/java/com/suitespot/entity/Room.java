@@ -46,13 +46,15 @@ public class Room {
     private Integer floor;
 
     @Column(name = "active")
+    @Builder.Default
     private Boolean active = true;
 
     public enum RoomType {
         SINGLE, DOUBLE, SUITE, DELUXE, PRESIDENTIAL
     }
 
+    // A new status also needs a migration that updates rooms_status_check (see V8)
     public enum RoomStatus {
-        AVAILABLE, OCCUPIED, MAINTENANCE, RESERVED
+        AVAILABLE, OCCUPIED, MAINTENANCE, RESERVED, CLEANING
     }
 }
@@ -0,0 +1,48 @@
+package com.suitespot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "room_blocks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomBlock {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    // First and last night out of order, both included
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "released", nullable = false)
+    @Builder.Default
+    private Boolean released = false;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean covers(LocalDate night) {
+        return !night.isBefore(startDate) && !night.isAfter(endDate);
+    }
+}
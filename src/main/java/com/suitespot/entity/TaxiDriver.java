@@ -0,0 +1,43 @@
+package com.suitespot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "taxi_drivers")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaxiDriver {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "vehicle_number", unique = true, nullable = false)
+    private String vehicleNumber;
+
+    @Column(name = "phone_number")
+    private String phoneNumber;
+
+    // Where the driver was last dropped off; ETAs are computed from here
+    @Column(name = "current_location", nullable = false)
+    @Builder.Default
+    private String currentLocation = "Hotel";
+
+    @Column(name = "active")
+    @Builder.Default
+    private Boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
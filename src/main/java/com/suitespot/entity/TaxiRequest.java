@@ -20,6 +20,7 @@ public class TaxiRequest {
     private Booking booking;
 
     @Column(name = "pickup_location", nullable = false)
+    @Builder.Default
     private String pickupLocation = "Hotel";
 
     @Column(name = "destination", nullable = false)
@@ -35,6 +36,10 @@ public class TaxiRequest {
     @Column(name = "estimated_arrival_time")
     private LocalDateTime estimatedArrivalTime;
 
+    @ManyToOne
+    @JoinColumn(name = "driver_id")
+    private TaxiDriver driver;
+
     @Column(name = "driver_name")
     private String driverName;
 
@@ -31,6 +31,7 @@ public class User {
     private Role role;
 
     @Column(name = "active")
+    @Builder.Default
     private Boolean active = true;
 
     public enum Role {
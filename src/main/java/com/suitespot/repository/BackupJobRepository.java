@@ -0,0 +1,14 @@
+package com.suitespot.repository;
+
+import com.suitespot.entity.BackupJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BackupJobRepository extends JpaRepository<BackupJob, Long> {
+    List<BackupJob> findByStatusIn(List<BackupJob.JobStatus> statuses);
+    Optional<BackupJob> findFirstByBackupTypeAndStatusOrderByFinishedAtDesc(String backupType, BackupJob.JobStatus status);
+    List<BackupJob> findTop20ByOrderByCreatedAtDesc();
+}
@@ -1,11 +1,13 @@
 package com.suitespot.repository;
 
 import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +28,46 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     
     @Query("SELECT DISTINCT b FROM Booking b LEFT JOIN FETCH b.guest LEFT JOIN FETCH b.room ORDER BY b.createdAt DESC")
     List<Booking> findAllWithRelations();
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.guest JOIN FETCH b.room WHERE b.status IN (:statuses) AND b.checkOutDate > :date")
+    List<Booking> findByStatusesCheckingOutAfter(@Param("statuses") List<Booking.BookingStatus> statuses,
+                                                 @Param("date") LocalDate date);
+
+    // Inclusive on both ends: a stay checking out on the requested check-in day, or checking in on
+    // the requested check-out day, still counts as overlapping (no same-day turnover)
+    @Query("SELECT DISTINCT b.room.id FROM Booking b WHERE b.status <> :excluded "
+            + "AND b.checkOutDate >= :checkIn AND b.checkInDate <= :checkOut")
+    List<Long> findBookedRoomIds(@Param("excluded") Booking.BookingStatus excluded,
+                                 @Param("checkIn") LocalDate checkIn,
+                                 @Param("checkOut") LocalDate checkOut);
+
+    // Stays in the given rooms with a night from :firstNight to :lastNight
+    @Query("SELECT b FROM Booking b JOIN FETCH b.guest JOIN FETCH b.room WHERE b.status IN (:statuses) "
+            + "AND b.room.id IN (:roomIds) AND b.checkOutDate > :firstNight AND b.checkInDate <= :lastNight "
+            + "ORDER BY b.checkInDate")
+    List<Booking> findByRoomsWithNightsBetween(@Param("statuses") List<Booking.BookingStatus> statuses,
+                                               @Param("roomIds") List<Long> roomIds,
+                                               @Param("firstNight") LocalDate firstNight,
+                                               @Param("lastNight") LocalDate lastNight);
+
+    /**
+     * The columns demand forecasting reads, without loading guests or rooms
+     */
+    interface StayHistory {
+        Room.RoomType getRoomType();
+        LocalDate getCheckInDate();
+        LocalDate getCheckOutDate();
+        Booking.BookingStatus getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    // Every booking, cancelled ones included, with a night from :firstNight to :lastNight. There is no
+    // cancellation timestamp: updatedAt stands in for it and is only approximate, since any later edit
+    // of a cancelled booking moves it
+    @Query("SELECT b.room.type AS roomType, b.checkInDate AS checkInDate, b.checkOutDate AS checkOutDate, "
+            + "b.status AS status, b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Booking b "
+            + "WHERE b.checkOutDate > :firstNight AND b.checkInDate <= :lastNight")
+    List<StayHistory> findStayHistory(@Param("firstNight") LocalDate firstNight,
+                                      @Param("lastNight") LocalDate lastNight);
 }
@@ -0,0 +1,22 @@
+package com.suitespot.repository;
+
+import com.suitespot.entity.HousekeepingTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HousekeepingTaskRepository extends JpaRepository<HousekeepingTask, Long> {
+    Optional<HousekeepingTask> findByRoomIdAndTaskDate(Long roomId, LocalDate taskDate);
+
+    @Query("SELECT t FROM HousekeepingTask t JOIN FETCH t.room WHERE t.taskDate = :date")
+    List<HousekeepingTask> findByTaskDateWithRoom(@Param("date") LocalDate date);
+
+    @Query("SELECT t FROM HousekeepingTask t JOIN FETCH t.room WHERE t.taskDate = :date AND t.status IN (:statuses)")
+    List<HousekeepingTask> findByTaskDateAndStatusesWithRoom(@Param("date") LocalDate date,
+                                                            @Param("statuses") List<HousekeepingTask.TaskStatus> statuses);
+}
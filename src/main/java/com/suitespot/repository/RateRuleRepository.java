@@ -0,0 +1,13 @@
+package com.suitespot.repository;
+
+import com.suitespot.entity.RateRule;
+import com.suitespot.entity.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface RateRuleRepository extends JpaRepository<RateRule, Long> {
+    List<RateRule> findByActiveTrue();
+    List<RateRule> findByRoomTypeAndActiveTrue(Room.RoomType roomType);
+}
@@ -0,0 +1,28 @@
+package com.suitespot.repository;
+
+import com.suitespot.entity.RoomBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RoomBlockRepository extends JpaRepository<RoomBlock, Long> {
+
+    // Ids of rooms out of order on any night from :from to :to (both included)
+    @Query("SELECT DISTINCT rb.room.id FROM RoomBlock rb WHERE rb.endDate >= :from AND rb.startDate <= :to")
+    List<Long> findBlockedRoomIds(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT rb FROM RoomBlock rb JOIN FETCH rb.room WHERE rb.endDate >= :from AND rb.startDate <= :to")
+    List<RoomBlock> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT rb FROM RoomBlock rb JOIN FETCH rb.room WHERE rb.endDate >= :date ORDER BY rb.startDate, rb.room.roomNumber")
+    List<RoomBlock> findEndingOnOrAfter(@Param("date") LocalDate date);
+
+    @Query("SELECT rb FROM RoomBlock rb JOIN FETCH rb.room WHERE rb.endDate < :date AND rb.released = false")
+    List<RoomBlock> findUnreleasedEndedBefore(@Param("date") LocalDate date);
+
+    boolean existsByRoomIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long roomId, LocalDate to, LocalDate from);
+}
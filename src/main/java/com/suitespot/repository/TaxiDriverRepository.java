@@ -0,0 +1,13 @@
+package com.suitespot.repository;
+
+import com.suitespot.entity.TaxiDriver;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaxiDriverRepository extends JpaRepository<TaxiDriver, Long> {
+    List<TaxiDriver> findByActiveTrue();
+    Optional<TaxiDriver> findByVehicleNumber(String vehicleNumber);
+}
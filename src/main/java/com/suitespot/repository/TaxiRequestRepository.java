@@ -4,9 +4,12 @@ import com.suitespot.entity.TaxiRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaxiRequestRepository extends JpaRepository<TaxiRequest, Long> {
     List<TaxiRequest> findByStatus(TaxiRequest.RequestStatus status);
+    List<TaxiRequest> findByStatusIn(List<TaxiRequest.RequestStatus> statuses);
     List<TaxiRequest> findByBookingId(Long bookingId);
+    Optional<TaxiRequest> findFirstByDriverIdAndStatusIn(Long driverId, List<TaxiRequest.RequestStatus> statuses);
 }
@@ -0,0 +1,216 @@
+package com.suitespot.service;
+
+import com.suitespot.entity.BackupJob;
+import com.suitespot.repository.BackupJobRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single-flight queue for backup jobs. At most one job is queued or running at any time;
+ * a submission while another job is active is rejected instead of stacking pg_dump processes.
+ * Job state is persisted in backup_jobs, live progress is read from the running BackupRun.
+ */
+@Service
+public class BackupJobService {
+
+    @Autowired
+    private BackupJobRepository backupJobRepository;
+
+    @Autowired
+    private DatabaseBackupService databaseBackupService;
+
+    @Autowired
+    private BackupVerificationService backupVerificationService;
+
+    @Autowired
+    @Qualifier("backupExecutor")
+    private Executor backupExecutor;
+
+    private final AtomicReference<ActiveJob> active = new AtomicReference<>();
+
+    private record ActiveJob(Long jobId, BackupRun run) {
+    }
+
+    /**
+     * Jobs left QUEUED or RUNNING by a previous process can never finish
+     */
+    @PostConstruct
+    public void failInterruptedJobs() {
+        List<BackupJob> stale = backupJobRepository.findByStatusIn(
+            List.of(BackupJob.JobStatus.QUEUED, BackupJob.JobStatus.RUNNING));
+        for (BackupJob job : stale) {
+            job.setStatus(BackupJob.JobStatus.FAILED);
+            job.setErrorMessage("Interrupted by application restart");
+            job.setFinishedAt(LocalDateTime.now());
+        }
+        backupJobRepository.saveAll(stale);
+    }
+
+    /**
+     * Queue a backup job
+     * @throws IllegalStateException if another backup job is queued or running
+     */
+    public BackupJob submit(String backupLocation, String backupType, BackupJob.TriggerType triggerType) {
+        BackupRun run = databaseBackupService.newRun(backupLocation, backupType);
+        ActiveJob placeholder = new ActiveJob(null, run);
+        if (!active.compareAndSet(null, placeholder)) {
+            ActiveJob current = active.get();
+            throw new IllegalStateException("Backup job " + (current != null ? current.jobId() : "")
+                + " is still running. Wait for it to finish before starting another backup.");
+        }
+
+        BackupJob job = null;
+        try {
+            Long expectedBytes = backupJobRepository
+                    .findFirstByBackupTypeAndStatusOrderByFinishedAtDesc(backupType, BackupJob.JobStatus.SUCCEEDED)
+                    .map(BackupJob::getBytesWritten)
+                    .orElse(null);
+            job = backupJobRepository.save(BackupJob.builder()
+                    .backupType(backupType)
+                    .backupLocation(backupLocation)
+                    .triggerType(triggerType)
+                    .status(BackupJob.JobStatus.QUEUED)
+                    .expectedBytes(expectedBytes)
+                    .build());
+            active.set(new ActiveJob(job.getId(), run));
+            Long jobId = job.getId();
+            backupExecutor.execute(() -> execute(jobId, run));
+        } catch (RuntimeException e) {
+            active.set(null);
+            if (job != null) {
+                // Saved but never handed to the executor (e.g. RejectedExecutionException): it will not run
+                String reason = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                try {
+                    updateJob(job.getId(), rejected -> {
+                        rejected.setStatus(BackupJob.JobStatus.FAILED);
+                        rejected.setErrorMessage("Could not be started: " + reason);
+                        rejected.setFinishedAt(LocalDateTime.now());
+                    });
+                } catch (RuntimeException updateFailed) {
+                    e.addSuppressed(updateFailed);
+                }
+            }
+            throw e;
+        }
+        return job;
+    }
+
+    private void execute(Long jobId, BackupRun run) {
+        try {
+            updateJob(jobId, job -> {
+                job.setStatus(BackupJob.JobStatus.RUNNING);
+                job.setStartedAt(LocalDateTime.now());
+            });
+            String backupPath = null;
+            RuntimeException failure = null;
+            try {
+                backupPath = databaseBackupService.createBackup(run);
+            } catch (IOException e) {
+                // Failure details are on the run
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            boolean succeeded = failure == null && run.getStatus() == BackupRun.Status.SUCCEEDED;
+            String errorMessage = failure == null ? run.getErrorMessage()
+                : failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+            updateJob(jobId, job -> {
+                job.setStatus(succeeded ? BackupJob.JobStatus.SUCCEEDED : BackupJob.JobStatus.FAILED);
+                job.setBackupPath(run.getBackupPath());
+                job.setBytesWritten(run.getBytesWritten());
+                job.setErrorMessage(errorMessage);
+                job.setFinishedAt(LocalDateTime.now());
+            });
+            // Queued only once the job is final, so a rejected verification cannot change its result
+            if (succeeded && backupPath != null) {
+                try {
+                    backupVerificationService.submit(Paths.get(backupPath));
+                } catch (RuntimeException e) {
+                    System.err.println("Warning: could not queue verification of " + backupPath + ": " + e.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            // The job row itself could not be updated (e.g. database unavailable); it is failed on next startup
+            System.err.println("Failed to update backup job " + jobId + ": " + e.getMessage());
+        } finally {
+            active.set(null);
+        }
+    }
+
+    private void updateJob(Long jobId, java.util.function.Consumer<BackupJob> update) {
+        backupJobRepository.findById(jobId).ifPresent(job -> {
+            update.accept(job);
+            backupJobRepository.save(job);
+        });
+    }
+
+    public Optional<BackupJob> getJob(Long id) {
+        return backupJobRepository.findById(id);
+    }
+
+    public List<BackupJob> getRecentJobs() {
+        return backupJobRepository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * Id of the job currently queued or running, if any
+     */
+    public Optional<Long> getActiveJobId() {
+        ActiveJob current = active.get();
+        return Optional.ofNullable(current != null ? current.jobId() : null);
+    }
+
+    /**
+     * Progress of a job: bytes written, elapsed time and ETA. Running jobs report live values,
+     * finished jobs the persisted ones. The ETA is extrapolated from the size of the previous
+     * successful backup of the same type and is absent for the first one.
+     */
+    public Map<String, Object> getProgress(BackupJob job) {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("id", job.getId());
+        progress.put("backupType", job.getBackupType());
+        progress.put("status", job.getStatus());
+        progress.put("backupPath", job.getBackupPath());
+        progress.put("errorMessage", job.getErrorMessage());
+
+        ActiveJob current = active.get();
+        boolean live = current != null && job.getId().equals(current.jobId());
+        long bytesWritten = live ? current.run().getBytesWritten()
+            : (job.getBytesWritten() != null ? job.getBytesWritten() : 0);
+        progress.put("bytesWritten", bytesWritten);
+        progress.put("expectedBytes", job.getExpectedBytes());
+
+        if (live) {
+            progress.put("currentTable", current.run().getCurrentTable());
+            progress.put("tablesDumped", current.run().getTablesDumped());
+        }
+
+        Long elapsedSeconds = null;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            elapsedSeconds = Duration.between(job.getStartedAt(), end).toSeconds();
+        }
+        progress.put("elapsedSeconds", elapsedSeconds);
+
+        Long etaSeconds = null;
+        if (job.getStatus() == BackupJob.JobStatus.RUNNING && elapsedSeconds != null && elapsedSeconds > 0
+                && bytesWritten > 0 && job.getExpectedBytes() != null) {
+            double bytesPerSecond = (double) bytesWritten / elapsedSeconds;
+            etaSeconds = Math.max(0, (long) ((job.getExpectedBytes() - bytesWritten) / bytesPerSecond));
+        }
+        progress.put("etaSeconds", etaSeconds);
+        return progress;
+    }
+}
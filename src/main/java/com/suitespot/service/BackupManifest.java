@@ -0,0 +1,103 @@
+package com.suitespot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Manifest written next to every logical backup as {@code <backup>.manifest.json}.
+ * Holds the SHA-256 of every archive file and the row count of every table,
+ * counted inside the same snapshot pg_dump used.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackupManifest {
+
+    public static final String SUFFIX = ".manifest.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private String backupName;
+    private String format;
+    private String createdAt;
+
+    /**
+     * File path relative to the backup (empty string for single-file archives) -> SHA-256 hex
+     */
+    @Builder.Default
+    private Map<String, String> sha256 = new TreeMap<>();
+
+    /**
+     * Table name -> row count at dump time
+     */
+    @Builder.Default
+    private Map<String, Long> rowCounts = new TreeMap<>();
+
+    public static Path manifestPath(Path backup) {
+        return backup.resolveSibling(backup.getFileName() + SUFFIX);
+    }
+
+    public void write(Path backup) throws IOException {
+        MAPPER.writeValue(manifestPath(backup).toFile(), this);
+    }
+
+    public static BackupManifest read(Path backup) throws IOException {
+        Path manifest = manifestPath(backup);
+        if (!Files.exists(manifest)) {
+            return null;
+        }
+        return MAPPER.readValue(manifest.toFile(), BackupManifest.class);
+    }
+
+    /**
+     * SHA-256 of every regular file of a backup; a single-file archive is keyed by ""
+     */
+    public static Map<String, String> checksum(Path backup) throws IOException {
+        Map<String, String> checksums = new TreeMap<>();
+        if (!Files.isDirectory(backup)) {
+            checksums.put("", sha256Of(backup));
+            return checksums;
+        }
+        try (Stream<Path> walk = Files.walk(backup)) {
+            for (Path file : walk.filter(Files::isRegularFile).toList()) {
+                checksums.put(backup.relativize(file).toString().replace('\\', '/'), sha256Of(file));
+            }
+        }
+        return checksums;
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256Of(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return hex(digest);
+    }
+}
@@ -0,0 +1,46 @@
+package com.suitespot.service;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * State and statistics of a single backup run.
+ * Progress fields are updated by the backup thread while pg_dump is running
+ * and read by request threads, hence volatile.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackupRun {
+    private String backupType;
+    private String backupLocation;
+    private volatile String backupPath;
+    private volatile Status status;
+    private LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    // Progress
+    private volatile String currentTable;
+    private volatile int tablesDumped;
+    private volatile long bytesWritten;
+
+    // Statistics
+    private volatile long durationMillis;
+    private volatile String errorMessage;
+
+    /**
+     * Throughput in MB/s, 0 until the run has finished
+     */
+    public double getThroughputMbPerSecond() {
+        if (durationMillis <= 0) {
+            return 0;
+        }
+        return (bytesWritten / (1024.0 * 1024.0)) / (durationMillis / 1000.0);
+    }
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -0,0 +1,42 @@
+package com.suitespot.service;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of verifying a single backup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackupVerification {
+    private String backupName;
+    private Status status;
+    private LocalDateTime checkedAt;
+    private long durationMillis;
+
+    private boolean checksumVerified;
+    private int archiveEntries;
+    private boolean restoreVerified;
+
+    /**
+     * Problems that make the backup unusable
+     */
+    @Builder.Default
+    private List<String> failures = new ArrayList<>();
+
+    /**
+     * Live row count minus backed-up row count per table; informational, the database keeps changing
+     */
+    @Builder.Default
+    private Map<String, Long> liveDrift = new TreeMap<>();
+
+    public enum Status {
+        PENDING, PASSED, FAILED
+    }
+}
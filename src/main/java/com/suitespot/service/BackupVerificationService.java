@@ -0,0 +1,182 @@
+package com.suitespot.service;
+
+import com.suitespot.config.BackupProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Verifies backups in the background so the admin backup page only reads cached results.
+ * Logical backups are checked against their SHA-256 manifest, listed with pg_restore --list and,
+ * when backup.verification.scratch-database is set, restored into that database and their row
+ * counts compared with the counts recorded at dump time. Base/incremental backups are checked
+ * with pg_verifybackup.
+ */
+@Service
+public class BackupVerificationService {
+
+    @Autowired
+    private DatabaseBackupService databaseBackupService;
+
+    @Autowired
+    private BackupProperties backupProperties;
+
+    @Autowired
+    @Qualifier("verificationExecutor")
+    private Executor verificationExecutor;
+
+    private final Map<String, BackupVerification> results = new ConcurrentHashMap<>();
+
+    /**
+     * Periodic pass: queue every backup in the configured location that has no result yet
+     */
+    @Scheduled(fixedDelayString = "${backup.verification.interval-ms:3600000}", initialDelay = 120000)
+    public void verifyPendingBackups() {
+        if (!backupProperties.getVerification().isEnabled()) {
+            return;
+        }
+        forgetDeletedBackups();
+        for (File backup : databaseBackupService.listBackups(backupProperties.getLocation())) {
+            if (!results.containsKey(backup.getAbsolutePath())) {
+                try {
+                    submit(backup.toPath());
+                } catch (RejectedExecutionException e) {
+                    // Queue is full; the rest are picked up by the next pass
+                    System.err.println("Warning: verification queue full, deferring remaining backups: " + e.getMessage());
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue a (re-)verification of one backup; returns immediately
+     * @throws java.util.concurrent.RejectedExecutionException if the verification queue is full
+     */
+    public void submit(Path backup) {
+        // Retention may just have deleted older archives; their results would otherwise stay forever
+        forgetDeletedBackups();
+        String key = backup.toAbsolutePath().toString();
+        BackupVerification pending = BackupVerification.builder()
+                .backupName(backup.getFileName().toString())
+                .status(BackupVerification.Status.PENDING)
+                .build();
+        // Skip if a verification for this backup is already queued or running
+        BackupVerification previous = results.put(key, pending);
+        if (previous != null && previous.getStatus() == BackupVerification.Status.PENDING) {
+            return;
+        }
+        try {
+            verificationExecutor.execute(() -> results.put(key, verify(backup)));
+        } catch (RejectedExecutionException e) {
+            // Never queued: drop the placeholder so a later submit or periodic pass can retry
+            results.remove(key, pending);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop results of backups that no longer exist, e.g. deleted by retention
+     */
+    private void forgetDeletedBackups() {
+        results.keySet().removeIf(key -> !Files.exists(Path.of(key)));
+    }
+
+    /**
+     * Latest result for a backup, or null if it has never been queued
+     */
+    public BackupVerification getResult(String backupPath) {
+        return results.get(Path.of(backupPath).toAbsolutePath().toString());
+    }
+
+    /**
+     * Run all checks for one backup on the calling thread
+     */
+    public BackupVerification verify(Path backup) {
+        long start = System.nanoTime();
+        BackupVerification result = BackupVerification.builder()
+                .backupName(backup.getFileName().toString())
+                .build();
+        try {
+            if (!Files.exists(backup)) {
+                result.getFailures().add("Backup no longer exists");
+            } else if (Files.isDirectory(backup) && Files.exists(backup.resolve("backup_manifest"))) {
+                databaseBackupService.verifyPhysicalBackup(backup);
+                result.setChecksumVerified(true);
+            } else {
+                verifyLogicalBackup(backup, result);
+            }
+        } catch (Exception e) {
+            result.getFailures().add(e.getMessage());
+        }
+        result.setStatus(result.getFailures().isEmpty()
+            ? BackupVerification.Status.PASSED
+            : BackupVerification.Status.FAILED);
+        result.setCheckedAt(LocalDateTime.now());
+        result.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private void verifyLogicalBackup(Path backup, BackupVerification result) throws IOException {
+        BackupManifest manifest = BackupManifest.read(backup);
+        if (manifest == null) {
+            result.getFailures().add("No manifest found; backup was created before checksums were recorded");
+            return;
+        }
+
+        // 1. Checksums
+        Map<String, String> actual = BackupManifest.checksum(backup);
+        if (!actual.equals(manifest.getSha256())) {
+            Set<String> files = new TreeSet<>(manifest.getSha256().keySet());
+            files.addAll(actual.keySet());
+            for (String file : files) {
+                if (!Objects.equals(manifest.getSha256().get(file), actual.get(file))) {
+                    result.getFailures().add("Checksum mismatch: " + (file.isEmpty() ? backup.getFileName() : file));
+                }
+            }
+            return;
+        }
+        result.setChecksumVerified(true);
+
+        // 2. Archive must be readable and contain data for every non-empty table
+        List<String> toc = databaseBackupService.listArchiveContents(backup);
+        result.setArchiveEntries((int) toc.stream().filter(line -> !line.startsWith(";")).count());
+        for (Map.Entry<String, Long> table : manifest.getRowCounts().entrySet()) {
+            if (table.getValue() > 0 && toc.stream().noneMatch(line ->
+                    line.contains("TABLE DATA") && line.contains(" " + table.getKey() + " "))) {
+                result.getFailures().add("Archive has no data entry for table " + table.getKey());
+            }
+        }
+
+        // 3. Optional full restore into the scratch database
+        String scratch = backupProperties.getVerification().getScratchDatabase();
+        if (scratch != null && !scratch.isBlank() && result.getFailures().isEmpty()) {
+            databaseBackupService.restoreInto(backup, scratch);
+            Map<String, Long> restored = databaseBackupService.countTableRows(scratch);
+            manifest.getRowCounts().forEach((table, expected) -> {
+                Long count = restored.get(table);
+                if (!expected.equals(count)) {
+                    result.getFailures().add(String.format(
+                        "Row count mismatch for %s: expected %d, restored %s", table, expected, count));
+                }
+            });
+            result.setRestoreVerified(result.getFailures().isEmpty());
+        }
+
+        // 4. Drift against live, for information only
+        Map<String, Long> live = databaseBackupService.countTableRows(null);
+        manifest.getRowCounts().forEach((table, backedUp) ->
+            result.getLiveDrift().put(table, live.getOrDefault(table, 0L) - backedUp));
+    }
+}
@@ -20,6 +20,9 @@ public class BillingService {
     @Autowired
     private SystemSettingsService systemSettingsService;
 
+    @Autowired
+    private RateCalendarService rateCalendarService;
+
     public Bill generateBill(Booking booking) {
         if (booking == null) {
             throw new IllegalArgumentException("Booking cannot be null");
@@ -47,13 +50,13 @@ public class BillingService {
             // Calculate from room price if total amount is missing
             if (booking.getRoom() != null && booking.getRoom().getPricePerNight() != null 
                 && booking.getCheckInDate() != null && booking.getCheckOutDate() != null) {
-                long numberOfNights = java.time.temporal.ChronoUnit.DAYS.between(
-                    booking.getCheckInDate(), booking.getCheckOutDate());
-                if (numberOfNights > 0) {
-                    roomCharges = booking.getRoom().getPricePerNight()
-                        .multiply(BigDecimal.valueOf(numberOfNights));
+                if (booking.getCheckOutDate().isAfter(booking.getCheckInDate())) {
+                    roomCharges = rateCalendarService.priceStay(
+                        booking.getRoom(), booking.getCheckInDate(), booking.getCheckOutDate());
                 } else {
-                    roomCharges = booking.getRoom().getPricePerNight(); // At least one night
+                    // At least one night
+                    roomCharges = rateCalendarService.priceStay(
+                        booking.getRoom(), booking.getCheckInDate(), booking.getCheckInDate().plusDays(1));
                 }
             } else {
                 throw new IllegalArgumentException("Cannot generate bill: booking total amount is missing and cannot be calculated from room price");
@@ -4,14 +4,16 @@ import com.suitespot.entity.Booking;
 import com.suitespot.entity.Guest;
 import com.suitespot.entity.Room;
 import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.RoomBlockRepository;
 import com.suitespot.repository.RoomRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import java.math.BigDecimal;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,14 +25,27 @@ public class BookingService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private RoomBlockRepository roomBlockRepository;
+
+    @Autowired
+    private StatusEventService statusEventService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private RateCalendarService rateCalendarService;
+
     public Booking createBooking(Booking booking) {
-        // Calculate total amount
-        long numberOfNights = ChronoUnit.DAYS.between(booking.getCheckInDate(), booking.getCheckOutDate());
-        BigDecimal totalAmount = booking.getRoom().getPricePerNight()
-                .multiply(BigDecimal.valueOf(numberOfNights));
-        booking.setTotalAmount(totalAmount);
+        // Calculate total amount from the rate calendar
+        booking.setTotalAmount(rateCalendarService.priceStay(
+                booking.getRoom(), booking.getCheckInDate(), booking.getCheckOutDate()));
         booking.setStatus(Booking.BookingStatus.PENDING);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        dataVersionService.bump(DataVersionService.BOOKINGS);
+        statusEventService.publish(StatusEventService.BOOKING, saved.getId(), saved.getStatus(), null);
+        return saved;
     }
 
     public Optional<Booking> getBookingById(Long id) {
@@ -88,6 +103,7 @@ public class BookingService {
     /**
      * Search bookings by various criteria (name, ID number, booking ID, date)
      */
+    @Transactional(readOnly = true)
     public List<Booking> searchBookings(String query, LocalDate startDate, LocalDate endDate) {
         List<Booking> allBookings = bookingRepository.findAll();
         
@@ -143,34 +159,40 @@ public class BookingService {
             return List.of();
         }
         
-        List<Booking> conflictingBookings = bookingRepository.findAll().stream()
-                .filter(b -> b != null && b.getStatus() != null && b.getStatus() != Booking.BookingStatus.CANCELLED)
-                .filter(b -> b.getCheckInDate() != null && b.getCheckOutDate() != null)
-                .filter(b -> !isDateRangeAvailable(b.getCheckInDate(), b.getCheckOutDate(), checkInDate, checkOutDate))
-                .collect(Collectors.toList());
+        // Both lookups are index range scans on the end date, so past stays and past closures
+        // are never read; bookings overlap inclusively (see findBookedRoomIds), blocks count
+        // the nights actually slept
+        Set<Long> unavailableRoomIds = new HashSet<>(bookingRepository.findBookedRoomIds(
+                Booking.BookingStatus.CANCELLED, checkInDate, checkOutDate));
+        if (checkOutDate.isAfter(checkInDate)) {
+            unavailableRoomIds.addAll(roomBlockRepository.findBlockedRoomIds(checkInDate, checkOutDate.minusDays(1)));
+        }
 
-        List<Long> bookedRoomIds = conflictingBookings.stream()
-                .filter(b -> b.getRoom() != null && b.getRoom().getId() != null)
-                .map(b -> b.getRoom().getId())
-                .collect(Collectors.toList());
+        // Today's status says nothing about other dates: bookings and blocks above decide. Only a room
+        // in MAINTENANCE without a block (out of order indefinitely) is left out, as in the room optimizer
+        LocalDate today = LocalDate.now();
+        Set<Long> blockedToday = new HashSet<>(roomBlockRepository.findBlockedRoomIds(today, today));
 
         return roomRepository.findAll().stream()
-                .filter(r -> r != null && r.getId() != null)
-                .filter(r -> !bookedRoomIds.contains(r.getId()))
-                .filter(r -> r.getStatus() != null && r.getStatus() == Room.RoomStatus.AVAILABLE)
+                .filter(r -> r != null && r.getId() != null && r.getStatus() != null)
+                .filter(r -> !Boolean.FALSE.equals(r.getActive()))
+                .filter(r -> !unavailableRoomIds.contains(r.getId()))
+                .filter(r -> r.getStatus() != Room.RoomStatus.MAINTENANCE || blockedToday.contains(r.getId()))
                 .filter(r -> roomType == null || r.getType() == roomType)
                 .collect(Collectors.toList());
     }
 
     public Booking confirmBooking(Long id) {
         return bookingRepository.findById(id).map(booking -> {
+            Booking.BookingStatus previousStatus = booking.getStatus();
             booking.setStatus(Booking.BookingStatus.CONFIRMED);
-            return bookingRepository.save(booking);
+            return saveAndPublish(booking, previousStatus);
         }).orElseThrow(() -> new RuntimeException("Booking not found"));
     }
 
     public Booking updateBooking(Long id, Booking bookingDetails) {
         return bookingRepository.findById(id).map(booking -> {
+            Booking.BookingStatus previousStatus = booking.getStatus();
             if (bookingDetails.getGuest() != null) {
                 booking.setGuest(bookingDetails.getGuest());
             }
@@ -191,13 +213,12 @@ public class BookingService {
             }
             // Recalculate total amount if dates or room changed
             if (bookingDetails.getCheckInDate() != null || bookingDetails.getCheckOutDate() != null || bookingDetails.getRoom() != null) {
-                long numberOfNights = ChronoUnit.DAYS.between(booking.getCheckInDate(), booking.getCheckOutDate());
                 if (booking.getRoom() != null && booking.getRoom().getPricePerNight() != null) {
-                    booking.setTotalAmount(booking.getRoom().getPricePerNight()
-                            .multiply(BigDecimal.valueOf(numberOfNights)));
+                    booking.setTotalAmount(rateCalendarService.priceStay(
+                            booking.getRoom(), booking.getCheckInDate(), booking.getCheckOutDate()));
                 }
             }
-            return bookingRepository.save(booking);
+            return saveAndPublish(booking, previousStatus);
         }).orElseThrow(() -> new RuntimeException("Booking not found"));
     }
 
@@ -206,24 +227,29 @@ public class BookingService {
      */
     public Booking updateBookingStatus(Long id, Booking.BookingStatus status) {
         return bookingRepository.findById(id).map(booking -> {
+            Booking.BookingStatus previousStatus = booking.getStatus();
             booking.setStatus(status);
-            return bookingRepository.save(booking);
+            return saveAndPublish(booking, previousStatus);
         }).orElseThrow(() -> new RuntimeException("Booking not found"));
     }
 
     public Booking cancelBooking(Long id) {
         return bookingRepository.findById(id).map(booking -> {
+            Booking.BookingStatus previousStatus = booking.getStatus();
             booking.setStatus(Booking.BookingStatus.CANCELLED);
-            return bookingRepository.save(booking);
+            return saveAndPublish(booking, previousStatus);
         }).orElseThrow(() -> new RuntimeException("Booking not found"));
     }
 
-    public void deleteBooking(Long id) {
-        bookingRepository.deleteById(id);
+    private Booking saveAndPublish(Booking booking, Booking.BookingStatus previousStatus) {
+        Booking saved = bookingRepository.save(booking);
+        dataVersionService.bump(DataVersionService.BOOKINGS);
+        statusEventService.publish(StatusEventService.BOOKING, saved.getId(), saved.getStatus(), previousStatus);
+        return saved;
     }
 
-    private boolean isDateRangeAvailable(LocalDate existingStart, LocalDate existingEnd, 
-                                         LocalDate newStart, LocalDate newEnd) {
-        return newEnd.isBefore(existingStart) || newStart.isAfter(existingEnd);
+    public void deleteBooking(Long id) {
+        bookingRepository.deleteById(id);
+        dataVersionService.bump(DataVersionService.BOOKINGS);
     }
 }
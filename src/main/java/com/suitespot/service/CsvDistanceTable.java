@@ -0,0 +1,75 @@
+package com.suitespot.service;
+
+import com.suitespot.config.TaxiDispatchProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Default DistanceTable: symmetric routes loaded once from the CSV at taxi.dispatch.distance-table
+ */
+@Component
+public class CsvDistanceTable implements DistanceTable {
+
+    @Autowired
+    private TaxiDispatchProperties taxiDispatchProperties;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    private final Map<String, Route> routes = new HashMap<>();
+
+    @PostConstruct
+    public void load() {
+        Resource resource = resourceLoader.getResource(taxiDispatchProperties.getDistanceTable());
+        if (!resource.exists()) {
+            System.err.println("Warning: taxi distance table " + taxiDispatchProperties.getDistanceTable()
+                + " not found; every route uses the default travel time.");
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length < 4) {
+                    System.err.println("Warning: ignoring distance table line " + lineNumber + ": " + line);
+                    continue;
+                }
+                Route route = new Route(Long.parseLong(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+                routes.put(key(fields[0], fields[1]), route);
+                routes.put(key(fields[1], fields[0]), route);
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Could not load taxi distance table: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Route> route(String from, String to) {
+        if (from == null || to == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(routes.get(key(from, to)));
+    }
+
+    private static String key(String from, String to) {
+        return from.trim().toLowerCase(Locale.ROOT) + "\u0000" + to.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,11 +14,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
@@ -34,6 +38,21 @@ public class CustomUserDetailsService implements UserDetailsService {
         );
     }
 
+    /**
+     * Store a re-hashed password after a successful login with an outdated encoding
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        userRepository.findByUsername(userDetails.getUsername()).ifPresent(user -> {
+            user.setPassword(newEncodedPassword);
+            userRepository.save(user);
+        });
+        userDetailsCache.removeUserFromCache(userDetails.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newEncodedPassword)
+                .build();
+    }
+
     private Collection<? extends GrantedAuthority> getAuthorities(User user) {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().toString()));
@@ -0,0 +1,53 @@
+package com.suitespot.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One counter per data aggregate, bumped by the service that writes it after each change.
+ * Anything derived from an aggregate (rendered fragments, ETags, ...) can include the current
+ * version in its cache key and is stale as soon as the next write lands, without explicit eviction.
+ * Counters are per node and start at 0; a restart simply starts with empty caches.
+ */
+@Component
+public class DataVersionService {
+
+    public static final String ROOMS = "rooms";
+    public static final String SETTINGS = "settings";
+    public static final String BOOKINGS = "bookings";
+    public static final String GUESTS = "guests";
+    public static final String TAXI = "taxi";
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(String aggregate) {
+        AtomicLong version = versions.get(aggregate);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * Inside a transaction the bump waits until the transaction has ended. Bumping earlier would let a concurrent
+     * reader pair the new version with the old rows and cache them under the new key.
+     */
+    public void bump(String aggregate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increment(aggregate);
+                }
+            });
+        } else {
+            increment(aggregate);
+        }
+    }
+
+    private void increment(String aggregate) {
+        versions.computeIfAbsent(aggregate, key -> new AtomicLong()).incrementAndGet();
+    }
+}
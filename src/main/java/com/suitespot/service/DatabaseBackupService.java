@@ -3,14 +3,31 @@ package com.suitespot.service;
 import com.suitespot.config.BackupProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.WeekFields;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Service
 public class DatabaseBackupService {
@@ -27,26 +44,86 @@ public class DatabaseBackupService {
     @Autowired(required = false)
     private BackupProperties backupProperties;
 
+    private static final Pattern TABLE_PROGRESS = Pattern.compile("dumping contents of table \"?([^\"]+)\"?");
+    private static final Pattern BACKUP_TIMESTAMP = Pattern.compile("_(\\d{8}_\\d{6})(\\.[a-z]+)?$");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Pattern BASEBACKUP_PROGRESS = Pattern.compile("(\\d+)/(\\d+) kB");
+    private static final String HISTORY_FILE = "backup_history.csv";
+    private static final String MANIFEST_FILE = "backup_manifest";
+    private static final String BACKUP_TYPE_INCREMENTAL = "incremental";
+    private static final String BACKUP_TYPE_BASE = "base";
+    private static final int MAX_RECENT_RUNS = 20;
+
+    private final Deque<BackupRun> recentRuns = new ConcurrentLinkedDeque<>();
+
     /**
      * Create a database backup
      * @param backupLocation Directory where backup should be saved
-     * @param backupType "full" for full backup, "incremental" for incremental (currently both do full)
-     * @return Path to the backup file
+     * @param backupType "full" for a logical pg_dump backup, "incremental" for a block-level
+     *                   pg_basebackup increment on top of the current base backup chain
+     * @return Path to the backup file or directory
      * @throws IOException if backup fails
      */
     public String createBackup(String backupLocation, String backupType) throws IOException {
+        return createBackup(newRun(backupLocation, backupType));
+    }
+
+    /**
+     * Create a database backup, reporting progress on the given run
+     * @see #newRun(String, String)
+     */
+    public String createBackup(BackupRun run) throws IOException {
+        return executeBackup(run);
+    }
+
+    public BackupRun newRun(String backupLocation, String backupType) {
+        return BackupRun.builder()
+                .backupLocation(backupLocation)
+                .backupType(backupType)
+                .status(BackupRun.Status.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String executeBackup(BackupRun run) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            String backupPath = BACKUP_TYPE_INCREMENTAL.equalsIgnoreCase(run.getBackupType())
+                ? runIncrementalBackup(run)
+                : runPgDump(run);
+            run.setBackupPath(backupPath);
+            run.setBytesWritten(sizeOf(Paths.get(backupPath)));
+            run.setStatus(BackupRun.Status.SUCCEEDED);
+            applyRetention(run.getBackupLocation());
+            return backupPath;
+        } catch (IOException e) {
+            run.setStatus(BackupRun.Status.FAILED);
+            run.setErrorMessage(e.getMessage());
+            throw e;
+        } finally {
+            run.setDurationMillis((System.nanoTime() - startNanos) / 1_000_000);
+            run.setFinishedAt(LocalDateTime.now());
+            recordRun(run);
+        }
+    }
+
+    private String runPgDump(BackupRun run) throws IOException {
         // Extract database name from JDBC URL
         String dbName = extractDatabaseName(jdbcUrl);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String backupFileName = String.format("%s_%s_%s.sql", dbName, backupType, timestamp);
-        
-        Path backupDir = Paths.get(backupLocation);
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        boolean directoryFormat = isDirectoryFormat();
+        String backupFileName = directoryFormat
+            ? String.format("%s_%s_%s", dbName, run.getBackupType(), timestamp)
+            : String.format("%s_%s_%s.backup", dbName, run.getBackupType(), timestamp);
+
+        Path backupDir = Paths.get(run.getBackupLocation());
         if (!Files.exists(backupDir)) {
             Files.createDirectories(backupDir);
         }
-        
+
         Path backupFile = backupDir.resolve(backupFileName);
-        
+        run.setBackupPath(backupFile.toString());
+
         // Find pg_dump executable
         String pgDumpExecutable = findPgDump();
         if (pgDumpExecutable == null) {
@@ -56,67 +133,568 @@ public class DatabaseBackupService {
                 "Common locations: C:\\Program Files\\PostgreSQL\\<version>\\bin\\pg_dump.exe"
             );
         }
-        
+
         // Extract host and port from JDBC URL
         String host = extractHost(jdbcUrl);
         String port = extractPort(jdbcUrl);
-        
-        // Execute pg_dump command
-        ProcessBuilder processBuilder = new ProcessBuilder(
+
+        List<String> command = new ArrayList<>(List.of(
             pgDumpExecutable,
             "-h", host,
             "-p", port,
             "-U", username,
             "-d", dbName,
-            "-F", "c", // Custom format (compressed)
-            "-f", backupFile.toString()
-        );
-        
+            "-Z", String.valueOf(getCompression()),
+            "--verbose" // Progress is parsed from stderr
+        ));
+        if (directoryFormat) {
+            command.addAll(List.of("-F", "d", "-j", String.valueOf(getJobs()), "-f", backupFile.toString()));
+        } else {
+            // Single-file archives are streamed through stdout so the SHA-256 is computed while dumping
+            command.addAll(List.of("-F", "c"));
+        }
+
+        // Export a snapshot and count rows inside it, so the manifest counts match exactly what pg_dump saw
+        Map<String, Long> rowCounts = new TreeMap<>();
+        String sha256 = null;
+        try (Connection snapshotConnection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            snapshotConnection.setAutoCommit(false);
+            snapshotConnection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try (Statement statement = snapshotConnection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT pg_export_snapshot()")) {
+                rs.next();
+                command.add("--snapshot=" + rs.getString(1));
+            }
+            rowCounts.putAll(countTableRows(snapshotConnection));
+
+            if (directoryFormat) {
+                runProcess(command, run, backupFile, "pg_dump", null);
+            } else {
+                MessageDigest digest = BackupManifest.newDigest();
+                try (OutputStream out = new DigestOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(backupFile)), digest)) {
+                    runProcess(command, run, backupFile, "pg_dump", out);
+                }
+                sha256 = BackupManifest.hex(digest);
+            }
+            snapshotConnection.commit();
+        } catch (SQLException e) {
+            throw new IOException("Could not open a consistent snapshot for the backup: " + e.getMessage(), e);
+        }
+
+        BackupManifest manifest = BackupManifest.builder()
+                .backupName(backupFile.getFileName().toString())
+                .format(directoryFormat ? "directory" : "custom")
+                .createdAt(LocalDateTime.now().toString())
+                .rowCounts(rowCounts)
+                .build();
+        if (sha256 != null) {
+            manifest.getSha256().put("", sha256);
+        } else {
+            // pg_dump writes directory archives itself with parallel workers, so they are hashed once complete
+            manifest.setSha256(BackupManifest.checksum(backupFile));
+        }
+        manifest.write(backupFile);
+
+        return backupFile.toString();
+    }
+
+    /**
+     * Run a PostgreSQL client tool, parsing its --verbose/--progress output on stderr into the run's progress
+     */
+    private void runProcess(List<String> command, BackupRun run, Path output, String toolName,
+                            OutputStream stdoutSink) throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.environment().put("PGPASSWORD", password);
-        
+        if (stdoutSink == null) {
+            // Output goes to a file/directory, anything still written to stdout is discarded so it can never fill the pipe
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        }
+
         Process process;
         try {
             process = processBuilder.start();
         } catch (IOException e) {
             if (e.getMessage() != null && e.getMessage().contains("Cannot run program")) {
                 throw new IOException(
-                    "Failed to execute pg_dump. Please ensure PostgreSQL is installed and pg_dump is accessible. " +
-                    "Error: " + e.getMessage(), e
+                    "Failed to execute " + toolName + ". Please ensure PostgreSQL is installed and " + toolName +
+                    " is accessible. Error: " + e.getMessage(), e
                 );
             }
             throw e;
         }
-        
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(process.getInputStream()));
-             BufferedReader errorReader = new BufferedReader(
+
+        // stdout is pumped on its own thread while stderr is read here, so neither pipe can fill up
+        Thread stdoutPump = null;
+        IOException[] pumpFailure = new IOException[1];
+        if (stdoutSink != null) {
+            stdoutPump = new Thread(() -> {
+                try (InputStream in = process.getInputStream()) {
+                    in.transferTo(stdoutSink);
+                    stdoutSink.flush();
+                } catch (IOException e) {
+                    pumpFailure[0] = e;
+                }
+            }, toolName + "-stdout");
+            stdoutPump.start();
+        }
+
+        try (BufferedReader errorReader = new BufferedReader(
                 new InputStreamReader(process.getErrorStream()))) {
-            
+
             String line;
             StringBuilder errorOutput = new StringBuilder();
-            
+            long lastSizeCheck = 0;
+
             while ((line = errorReader.readLine()) != null) {
-                errorOutput.append(line).append("\n");
+                Matcher tableMatcher = TABLE_PROGRESS.matcher(line);
+                Matcher progressMatcher = BASEBACKUP_PROGRESS.matcher(line);
+                if (tableMatcher.find()) {
+                    run.setCurrentTable(tableMatcher.group(1));
+                    run.setTablesDumped(run.getTablesDumped() + 1);
+                    // Measuring the output walks the directory, so do it at most twice a second
+                    long now = System.currentTimeMillis();
+                    if (now - lastSizeCheck > 500) {
+                        run.setBytesWritten(sizeOf(output));
+                        lastSizeCheck = now;
+                    }
+                } else if (progressMatcher.find()) {
+                    run.setBytesWritten(Long.parseLong(progressMatcher.group(1)) * 1024);
+                } else if (!line.startsWith(toolName + ": ") || line.contains("error") || line.contains("warning")) {
+                    errorOutput.append(line).append("\n");
+                }
             }
-            
+
             int exitCode = process.waitFor();
-            
+            if (stdoutPump != null) {
+                stdoutPump.join();
+                if (pumpFailure[0] != null) {
+                    throw new IOException("Failed to write " + toolName + " output: " + pumpFailure[0].getMessage(),
+                        pumpFailure[0]);
+                }
+            }
+
             if (exitCode != 0) {
                 throw new IOException("Backup failed: " + errorOutput.toString());
             }
-            
-            // Verify backup file exists and is not empty
-            if (!Files.exists(backupFile) || Files.size(backupFile) == 0) {
+
+            // Verify output exists and is not empty
+            if (!Files.exists(output) || sizeOf(output) == 0) {
                 throw new IOException("Backup file was not created or is empty");
             }
-            
-            return backupFile.toString();
         } catch (InterruptedException e) {
+            process.destroy();
             Thread.currentThread().interrupt();
             throw new IOException("Backup process was interrupted", e);
         }
     }
-    
+
+    /**
+     * Block-level incremental backup (PostgreSQL 17+).
+     * The first run, and every run after backup.incremental.max-chain-length increments, takes a new
+     * base backup with pg_basebackup. Other runs pass the manifest of the previous backup in the chain
+     * to pg_basebackup --incremental, so only blocks changed since then are copied and the backup window
+     * scales with the rate of change instead of the database size.
+     * Requires summarize_wal=on and a replication-capable role on the server.
+     */
+    private String runIncrementalBackup(BackupRun run) throws IOException {
+        String pgBasebackup = findPgTool("pg_basebackup");
+        if (pgBasebackup == null) {
+            throw new IOException(
+                "pg_basebackup not found. Incremental backups require PostgreSQL 17 or newer client tools " +
+                "next to the configured pg_dump or in your system PATH."
+            );
+        }
+
+        Path backupDir = Paths.get(run.getBackupLocation());
+        if (!Files.exists(backupDir)) {
+            Files.createDirectories(backupDir);
+        }
+
+        List<File> chain = getCurrentChain(run.getBackupLocation());
+        int maxChainLength = backupProperties != null ? backupProperties.getIncremental().getMaxChainLength() : 6;
+        boolean takeBase = chain.isEmpty() || chain.size() - 1 >= maxChainLength;
+
+        String dbName = extractDatabaseName(jdbcUrl);
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        Path target = backupDir.resolve(String.format("%s_%s_%s",
+            dbName, takeBase ? BACKUP_TYPE_BASE : BACKUP_TYPE_INCREMENTAL, timestamp));
+        run.setBackupPath(target.toString());
+
+        List<String> command = new ArrayList<>(List.of(
+            pgBasebackup,
+            "-h", extractHost(jdbcUrl),
+            "-p", extractPort(jdbcUrl),
+            "-U", username,
+            "-D", target.toString(),
+            "-F", "p", // pg_combinebackup only works with plain format
+            "--checkpoint=fast",
+            "--manifest-checksums=SHA256",
+            "--progress",
+            "--verbose"
+        ));
+        if (!takeBase) {
+            File previous = chain.get(chain.size() - 1);
+            command.add("--incremental=" + new File(previous, MANIFEST_FILE).getAbsolutePath());
+        }
+
+        runProcess(command, run, target, "pg_basebackup", null);
+
+        if (takeBase) {
+            pruneChains(run.getBackupLocation());
+        }
+        return target.toString();
+    }
+
+    /**
+     * Base backup followed by its increments, oldest first. Empty if no base backup exists yet.
+     */
+    public List<File> getCurrentChain(String backupLocation) {
+        List<List<File>> chains = getChains(backupLocation);
+        return chains.isEmpty() ? List.of() : chains.get(chains.size() - 1);
+    }
+
+    private List<List<File>> getChains(String backupLocation) {
+        File backupDir = new File(backupLocation);
+        File[] physical = backupDir.listFiles(file -> file.isDirectory()
+            && new File(file, MANIFEST_FILE).exists()
+            && parseBackupTimestamp(file.getName()) != null);
+        if (physical == null) {
+            return List.of();
+        }
+
+        List<List<File>> chains = new ArrayList<>();
+        Arrays.stream(physical)
+                .sorted(Comparator.comparing((File f) -> parseBackupTimestamp(f.getName())))
+                .forEach(file -> {
+                    if (file.getName().contains("_" + BACKUP_TYPE_BASE + "_")) {
+                        chains.add(new ArrayList<>(List.of(file)));
+                    } else if (!chains.isEmpty()) {
+                        chains.get(chains.size() - 1).add(file);
+                    }
+                    // Increments without a base are orphans and are left alone
+                });
+        return chains;
+    }
+
+    /**
+     * Delete whole chains beyond backup.incremental.keep-chains, never single links of a chain
+     */
+    private void pruneChains(String backupLocation) {
+        int keepChains = backupProperties != null ? backupProperties.getIncremental().getKeepChains() : 2;
+        List<List<File>> chains = getChains(backupLocation);
+        for (int i = 0; i < chains.size() - Math.max(1, keepChains); i++) {
+            for (File backup : chains.get(i)) {
+                try {
+                    deleteRecursively(backup.toPath());
+                } catch (IOException e) {
+                    System.err.println("Warning: could not delete expired backup " + backup + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reconstruct a full data directory from the current base backup and all of its increments
+     * using pg_combinebackup. The result can be started with pg_ctl -D targetDirectory.
+     * @return Path to the combined data directory
+     */
+    public String restoreIncrementalChain(String backupLocation, String targetDirectory) throws IOException {
+        List<File> chain = getCurrentChain(backupLocation);
+        if (chain.isEmpty()) {
+            throw new IOException("No base backup found in " + backupLocation);
+        }
+        String pgCombinebackup = findPgTool("pg_combinebackup");
+        if (pgCombinebackup == null) {
+            throw new IOException("pg_combinebackup not found. It ships with PostgreSQL 17 or newer.");
+        }
+        Path target = Paths.get(targetDirectory);
+        if (Files.exists(target)) {
+            try (Stream<Path> entries = Files.list(target)) {
+                if (entries.findAny().isPresent()) {
+                    throw new IOException("Target directory must be empty: " + targetDirectory);
+                }
+            }
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(pgCombinebackup);
+        chain.forEach(file -> command.add(file.getAbsolutePath()));
+        command.addAll(List.of("-o", target.toString()));
+
+        BackupRun run = newRun(backupLocation, "restore");
+        run.setBackupPath(target.toString());
+        runProcess(command, run, target, "pg_combinebackup", null);
+        return target.toString();
+    }
+
+    /**
+     * Combine the current chain on the backup executor
+     */
+    @Async("backupExecutor")
+    public CompletableFuture<String> restoreIncrementalChainAsync(String backupLocation, String targetDirectory) {
+        try {
+            return CompletableFuture.completedFuture(restoreIncrementalChain(backupLocation, targetDirectory));
+        } catch (IOException e) {
+            System.err.println("Error combining incremental backups: " + e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Table of contents of a logical archive (pg_restore --list). Fails if the archive cannot be read.
+     */
+    public List<String> listArchiveContents(Path archive) throws IOException {
+        String pgRestore = findPgTool("pg_restore");
+        if (pgRestore == null) {
+            throw new IOException("pg_restore not found next to pg_dump or in your system PATH");
+        }
+        return runAndCapture(List.of(pgRestore, "--list", archive.toString()), "pg_restore --list");
+    }
+
+    /**
+     * Check a base or incremental backup against its backup_manifest checksums (pg_verifybackup)
+     */
+    public List<String> verifyPhysicalBackup(Path backup) throws IOException {
+        String pgVerifybackup = findPgTool("pg_verifybackup");
+        if (pgVerifybackup == null) {
+            throw new IOException("pg_verifybackup not found next to pg_dump or in your system PATH");
+        }
+        // WAL parsing is skipped because increments do not carry a complete WAL range
+        return runAndCapture(List.of(pgVerifybackup, "--no-parse-wal", backup.toString()), "pg_verifybackup");
+    }
+
+    private List<String> runAndCapture(List<String> command, String description) throws IOException {
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .start();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            if (process.waitFor() != 0) {
+                throw new IOException(description + " failed: " + String.join("\n", lines));
+            }
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw new IOException(description + " was interrupted", e);
+        }
+        return lines;
+    }
+
+    /**
+     * Restore a logical archive into an existing scratch database, replacing its contents
+     */
+    public void restoreInto(Path archive, String databaseName) throws IOException {
+        if (extractDatabaseName(jdbcUrl).equals(databaseName)) {
+            throw new IllegalArgumentException("Refusing to restore a verification copy into the live database");
+        }
+        String pgRestore = findPgTool("pg_restore");
+        if (pgRestore == null) {
+            throw new IOException("pg_restore not found next to pg_dump or in your system PATH");
+        }
+        List<String> command = new ArrayList<>(List.of(
+            pgRestore,
+            "-h", extractHost(jdbcUrl),
+            "-p", extractPort(jdbcUrl),
+            "-U", username,
+            "-d", databaseName,
+            "--clean", "--if-exists", "--no-owner", "--exit-on-error"
+        ));
+        if (Files.isDirectory(archive)) {
+            command.addAll(List.of("-j", String.valueOf(getJobs())));
+        }
+        command.add(archive.toString());
+        BackupRun run = newRun(archive.getParent().toString(), "verify");
+        runProcess(command, run, archive, "pg_restore", null);
+    }
+
+    /**
+     * Row count of every table in the given database (the live database when null)
+     */
+    public Map<String, Long> countTableRows(String databaseName) throws IOException {
+        String url = databaseName == null ? jdbcUrl : jdbcUrlFor(databaseName);
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            return countTableRows(connection);
+        } catch (SQLException e) {
+            throw new IOException("Could not count rows: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Long> countTableRows(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "SELECT tablename FROM pg_tables WHERE schemaname = current_schema() ORDER BY tablename")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        for (String table : tables) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                     "SELECT count(*) FROM \"" + table.replace("\"", "\"\"") + "\"")) {
+                rs.next();
+                counts.put(table, rs.getLong(1));
+            }
+        }
+        return counts;
+    }
+
+    private String jdbcUrlFor(String databaseName) {
+        String current = extractDatabaseName(jdbcUrl);
+        int index = jdbcUrl.lastIndexOf("/" + current);
+        return jdbcUrl.substring(0, index + 1) + databaseName + jdbcUrl.substring(index + 1 + current.length());
+    }
+
+    /**
+     * Most recent runs, newest first
+     */
+    public List<BackupRun> getRecentRuns() {
+        return new ArrayList<>(recentRuns);
+    }
+
+    private void recordRun(BackupRun run) {
+        recentRuns.addFirst(run);
+        while (recentRuns.size() > MAX_RECENT_RUNS) {
+            recentRuns.pollLast();
+        }
+
+        // Append to a CSV next to the backups so statistics survive restarts
+        Path historyFile = Paths.get(run.getBackupLocation()).resolve(HISTORY_FILE);
+        try {
+            if (!Files.exists(historyFile)) {
+                Files.createDirectories(historyFile.getParent());
+                Files.writeString(historyFile,
+                    "started_at,type,status,duration_ms,bytes,throughput_mb_s,path\n");
+            }
+            String row = String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.2f,%s%n",
+                run.getStartedAt(), run.getBackupType(), run.getStatus(), run.getDurationMillis(),
+                run.getBytesWritten(), run.getThroughputMbPerSecond(),
+                run.getBackupPath() != null ? run.getBackupPath() : "");
+            Files.writeString(historyFile, row, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Warning: could not write backup history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply the configured retention policy to a backup directory.
+     * The newest backup of each of the last N days and of each of the last M weeks is kept,
+     * every other backup created by this service is deleted.
+     * @return names of the deleted backups
+     */
+    public List<String> applyRetention(String backupLocation) {
+        List<String> deleted = new ArrayList<>();
+        if (backupProperties == null || backupProperties.getRetention() == null
+                || !backupProperties.getRetention().isEnabled()) {
+            return deleted;
+        }
+        int keepDaily = backupProperties.getRetention().getDaily();
+        int keepWeekly = backupProperties.getRetention().getWeekly();
+        if (keepDaily <= 0 && keepWeekly <= 0) {
+            return deleted;
+        }
+
+        // Newest first
+        // Physical base/incremental backups form chains and are pruned by pruneChains instead
+        List<File> backups = Arrays.stream(listBackups(backupLocation))
+                .filter(f -> !new File(f, MANIFEST_FILE).exists())
+                .filter(f -> parseBackupTimestamp(f.getName()) != null)
+                .sorted(Comparator.comparing((File f) -> parseBackupTimestamp(f.getName())).reversed())
+                .toList();
+
+        Set<LocalDate> keptDays = new HashSet<>();
+        Set<String> keptWeeks = new HashSet<>();
+        WeekFields weekFields = WeekFields.ISO;
+
+        for (File backup : backups) {
+            LocalDateTime created = parseBackupTimestamp(backup.getName());
+            LocalDate day = created.toLocalDate();
+            String week = day.get(weekFields.weekBasedYear()) + "-" + day.get(weekFields.weekOfWeekBasedYear());
+
+            boolean keep = false;
+            if (!keptDays.contains(day) && keptDays.size() < keepDaily) {
+                keptDays.add(day);
+                keep = true;
+            }
+            if (!keptWeeks.contains(week) && keptWeeks.size() < keepWeekly) {
+                keptWeeks.add(week);
+                keep = true;
+            }
+
+            if (!keep) {
+                try {
+                    deleteRecursively(backup.toPath());
+                    Files.deleteIfExists(BackupManifest.manifestPath(backup.toPath()));
+                    deleted.add(backup.getName());
+                } catch (IOException e) {
+                    System.err.println("Warning: could not delete expired backup " + backup + ": " + e.getMessage());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private LocalDateTime parseBackupTimestamp(String name) {
+        Matcher matcher = BACKUP_TIMESTAMP.matcher(name);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(matcher.group(1), TIMESTAMP_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void deleteRecursively(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> walk = Files.walk(path)) {
+                for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        } else {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Size of a backup file, or total size of a directory-format backup
+     */
+    public long sizeOf(Path path) {
+        try {
+            if (!Files.isDirectory(path)) {
+                return Files.exists(path) ? Files.size(path) : 0;
+            }
+            try (Stream<Path> walk = Files.walk(path)) {
+                return walk.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+            }
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private boolean isDirectoryFormat() {
+        return backupProperties == null || backupProperties.getPgDump() == null
+            || !"custom".equalsIgnoreCase(backupProperties.getPgDump().getFormat());
+    }
+
+    private int getJobs() {
+        int jobs = backupProperties != null ? backupProperties.getPgDump().getJobs() : 4;
+        return Math.max(1, jobs);
+    }
+
+    private int getCompression() {
+        int level = backupProperties != null ? backupProperties.getPgDump().getCompression() : 6;
+        return Math.min(9, Math.max(0, level));
+    }
+
     /**
      * Find pg_dump executable path
      */
@@ -172,6 +750,35 @@ public class DatabaseBackupService {
         
         return null;
     }
+
+    /**
+     * Find another PostgreSQL client tool (pg_basebackup, pg_combinebackup, pg_restore, ...).
+     * Looks next to the resolved pg_dump first so all tools come from the same installation.
+     */
+    public String findPgTool(String tool) {
+        String pgDump = findPgDump();
+        if (pgDump != null) {
+            Path pgDumpPath = Paths.get(pgDump);
+            if (pgDumpPath.getParent() != null) {
+                String extension = pgDumpPath.getFileName().toString().endsWith(".exe") ? ".exe" : "";
+                Path sibling = pgDumpPath.getParent().resolve(tool + extension);
+                if (Files.exists(sibling) && Files.isExecutable(sibling)) {
+                    return sibling.toString();
+                }
+            }
+        }
+
+        // Try to find in PATH
+        try {
+            Process p = new ProcessBuilder(tool, "--version").start();
+            if (p.waitFor() == 0) {
+                return tool;
+            }
+        } catch (Exception e) {
+            // tool not in PATH
+        }
+        return null;
+    }
     
     /**
      * Extract host from JDBC URL
@@ -209,18 +816,18 @@ public class DatabaseBackupService {
      * Verify backup integrity by checking file existence and size
      */
     public boolean verifyBackup(String backupFilePath) {
-        try {
-            Path backupPath = Paths.get(backupFilePath);
-            if (!Files.exists(backupPath)) {
-                return false;
-            }
-            
-            long fileSize = Files.size(backupPath);
-            // Backup file should be at least 1KB
-            return fileSize > 1024;
-        } catch (IOException e) {
+        Path backupPath = Paths.get(backupFilePath);
+        if (!Files.exists(backupPath)) {
             return false;
         }
+        // Directory-format dumps contain a table of contents, base/incremental backups a manifest
+        if (Files.isDirectory(backupPath) && !Files.exists(backupPath.resolve("toc.dat"))
+                && !Files.exists(backupPath.resolve(MANIFEST_FILE))) {
+            return false;
+        }
+
+        // Backup should be at least 1KB
+        return sizeOf(backupPath) > 1024;
     }
     
     /**
@@ -250,8 +857,10 @@ public class DatabaseBackupService {
             return new File[0];
         }
         
-        return backupDir.listFiles((dir, name) -> 
-            name.endsWith(".sql") || name.endsWith(".backup")
+        return backupDir.listFiles(file ->
+            file.getName().endsWith(".sql") || file.getName().endsWith(".backup")
+                || (file.isDirectory() && new File(file, "toc.dat").exists())
+                || (file.isDirectory() && new File(file, MANIFEST_FILE).exists())
         );
     }
 }
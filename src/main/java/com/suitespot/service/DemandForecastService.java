@@ -0,0 +1,568 @@
+package com.suitespot.service;
+
+import com.suitespot.config.ForecastProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
+import com.suitespot.entity.RoomBlock;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.RoomBlockRepository;
+import com.suitespot.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Occupancy and arrival forecasts per room type for the next reports.forecast.horizon-days nights.
+ *
+ * The model is additive pickup. For every past night in the training window it is known how many
+ * rooms of a type were finally sold and how many were already on the books 0..horizon-1 days
+ * before (Booking.createdAt, and updatedAt as an approximate cancellation date of CANCELLED bookings), so
+ * pickup(type, weekday, lead) is the average of sold minus on the books over those nights; it is
+ * negative where cancellations outweigh late bookings. A future night is forecast as the rooms on
+ * the books today plus the pickup for its weekday and lead, capped at the rooms of the type not
+ * blocked that night. Weekdays with little history lean on the all-week curve
+ * (reports.forecast.weekday-prior-nights). Arrivals are forecast the same way.
+ *
+ * Training is a difference array over leads per night, linear in the booked nights of the window,
+ * with the types learned in parallel. The curves are kept as running sums: each night
+ * (reports.forecast.refresh-cron) only the nights that ended since the last run are added, and the
+ * nights that left the window are subtracted. The forecast is cached until a booking or room
+ * changes, and then rebuilt from the bookings of the horizon alone.
+ */
+@Service
+public class DemandForecastService {
+
+    private static final List<Booking.BookingStatus> ACTIVE_STATUSES = List.of(
+            Booking.BookingStatus.PENDING, Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.CHECKED_IN);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomBlockRepository roomBlockRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ForecastProperties forecastProperties;
+
+    /**
+     * A ReentrantLock rather than synchronized: training holds it across JDBC calls,
+     * and a virtual thread blocking inside synchronized would pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Learned curves per type, only changed under the lock
+     */
+    private final Map<Room.RoomType, Curves> curves = new EnumMap<>(Room.RoomType.class);
+
+    /**
+     * Last night added to the curves, null before the first training
+     */
+    private LocalDate trainedThrough;
+
+    /**
+     * Latest forecast and the data versions it was built from, replaced as a whole
+     */
+    private volatile Cached cached;
+
+    private record Cached(Forecast forecast, long bookingsVersion, long roomsVersion) {
+    }
+
+    /**
+     * One type (or all types, with type null) night by night from today. rooms and arrivals are
+     * expected values; pickup is the all-week curve by lead.
+     */
+    public record TypeForecast(Room.RoomType type, int roomCount, int[] capacity, int[] roomsOnBooks, double[] rooms,
+                               int[] arrivalsOnBooks, double[] arrivals, double cancellationRate, double[] pickup) {
+
+        public double getOccupancy() {
+            return occupancy(0, rooms.length);
+        }
+
+        public double getOccupancyOnBooks() {
+            return occupancyOnBooks(0, rooms.length);
+        }
+
+        public double getArrivalsTotal() {
+            return Arrays.stream(arrivals).sum();
+        }
+
+        public double getCancellationPercent() {
+            return cancellationRate * 100;
+        }
+
+        /**
+         * Rooms per night still expected to be picked up this many days ahead
+         */
+        public double pickupAt(int lead) {
+            return pickup.length == 0 ? 0 : pickup[Math.min(lead, pickup.length - 1)];
+        }
+
+        double occupancy(int from, int to) {
+            return percent(Arrays.stream(rooms, from, to).sum(), Arrays.stream(capacity, from, to).sum());
+        }
+
+        double occupancyOnBooks(int from, int to) {
+            return percent(Arrays.stream(roomsOnBooks, from, to).sum(), Arrays.stream(capacity, from, to).sum());
+        }
+
+        double arrivals(int from, int to) {
+            return Arrays.stream(arrivals, from, to).sum();
+        }
+    }
+
+    /**
+     * Seven nights of the forecast; occupancies in percent
+     */
+    public record Week(LocalDate start, List<Double> occupancyByType, double occupancy, double occupancyOnBooks,
+                       double arrivals) {
+    }
+
+    public record Forecast(LocalDate from, int horizonDays, int trainedNights, List<TypeForecast> types,
+                           TypeForecast total, long elapsedMillis) {
+
+        public LocalDate getTo() {
+            return from.plusDays(horizonDays - 1);
+        }
+
+        public List<Week> getWeeks() {
+            List<Week> weeks = new ArrayList<>();
+            for (int start = 0; start < horizonDays; start += 7) {
+                int end = Math.min(horizonDays, start + 7);
+                List<Double> byType = new ArrayList<>(types.size());
+                for (TypeForecast type : types) {
+                    byType.add(type.occupancy(start, end));
+                }
+                weeks.add(new Week(from.plusDays(start), byType, total.occupancy(start, end),
+                    total.occupancyOnBooks(start, end), total.arrivals(start, end)));
+            }
+            return weeks;
+        }
+    }
+
+    @Scheduled(cron = "${reports.forecast.refresh-cron:0 15 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        lock.lock();
+        try {
+            refreshLocked(LocalDate.now());
+        } catch (Exception e) {
+            System.err.println("Warning: demand forecast training failed, retrying on the next request: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Learn the whole window again, e.g. after past bookings were corrected. Failures are thrown
+     * to the caller; the next forecast request tries again.
+     */
+    public Forecast retrain() {
+        lock.lock();
+        try {
+            curves.clear();
+            trainedThrough = null;
+            refreshLocked(LocalDate.now());
+        } finally {
+            lock.unlock();
+        }
+        return getForecast();
+    }
+
+    /**
+     * The cached forecast, rebuilt first if a booking or room changed since
+     */
+    public Forecast getForecast() {
+        LocalDate today = LocalDate.now();
+        long bookingsVersion = dataVersionService.current(DataVersionService.BOOKINGS);
+        long roomsVersion = dataVersionService.current(DataVersionService.ROOMS);
+        Cached current = cached;
+        if (isCurrent(current, today, bookingsVersion, roomsVersion)) {
+            return current.forecast();
+        }
+        lock.lock();
+        try {
+            current = cached;
+            if (isCurrent(current, today, bookingsVersion, roomsVersion)) {
+                return current.forecast();
+            }
+            if (trainedThrough == null || trainedThrough.isBefore(today.minusDays(1))) {
+                try {
+                    refreshLocked(today);
+                } catch (Exception e) {
+                    // Forecast from the curves learned so far
+                    System.err.println("Warning: demand forecast training failed: " + e.getMessage());
+                }
+            }
+            LocalDate last = today.plusDays(forecastProperties.getHorizonDays() - 1);
+            Forecast forecast = forecast(roomRepository.findAll(), roomBlockRepository.findOverlapping(today, last),
+                bookingRepository.findStayHistory(today, last), today);
+            cached = new Cached(forecast, bookingsVersion, roomsVersion);
+            return forecast;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isCurrent(Cached cached, LocalDate today, long bookingsVersion, long roomsVersion) {
+        return cached != null && cached.forecast().from().equals(today)
+            && cached.bookingsVersion() == bookingsVersion && cached.roomsVersion() == roomsVersion;
+    }
+
+    /**
+     * Add the nights that ended since the last run (the whole window on the first run) and drop
+     * the nights that fell out of the window
+     */
+    private void refreshLocked(LocalDate today) {
+        LocalDate windowStart = today.minusDays(forecastProperties.getTrainingDays());
+        LocalDate yesterday = today.minusDays(1);
+        if (trainedThrough == null || trainedThrough.isBefore(windowStart)) {
+            curves.clear();
+            List<BookingRepository.StayHistory> rows = bookingRepository.findStayHistory(windowStart, yesterday);
+            // Nights before the first stay on record are not zero demand, just no data
+            LocalDate firstStay = rows.stream()
+                    .map(BookingRepository.StayHistory::getCheckInDate)
+                    .filter(Objects::nonNull)
+                    .min(LocalDate::compareTo)
+                    .orElse(today);
+            train(rows, firstStay.isAfter(windowStart) ? firstStay : windowStart, yesterday);
+        } else if (trainedThrough.isBefore(yesterday)) {
+            LocalDate from = trainedThrough.plusDays(1);
+            train(bookingRepository.findStayHistory(from, yesterday), from, yesterday);
+        }
+        trainedThrough = yesterday;
+        curves.values().forEach(curve -> curve.evictBefore(windowStart));
+        cached = null;
+    }
+
+    /**
+     * Add the nights from..to, learned from the stays that touch them, to the curves
+     */
+    public void train(List<BookingRepository.StayHistory> rows, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return;
+        }
+        int leads = forecastProperties.getHorizonDays();
+        Map<Room.RoomType, List<BookingRepository.StayHistory>> byType = new EnumMap<>(Room.RoomType.class);
+        for (Room.RoomType type : Room.RoomType.values()) {
+            byType.put(type, new ArrayList<>());
+        }
+        for (BookingRepository.StayHistory row : rows) {
+            if (row.getRoomType() != null) {
+                byType.get(row.getRoomType()).add(row);
+            }
+        }
+        // Each type only reads its own stays
+        Map<Room.RoomType, List<NightHistory>> learned = byType.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> nights(entry.getValue(), from, to, leads)));
+
+        lock.lock();
+        try {
+            for (Map.Entry<Room.RoomType, List<NightHistory>> entry : learned.entrySet()) {
+                Curves curve = curves.computeIfAbsent(entry.getKey(), type -> new Curves(leads));
+                LocalDate night = from;
+                for (NightHistory history : entry.getValue()) {
+                    curve.add(night, history);
+                    night = night.plusDays(1);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The forecast from today on for the given rooms, blocks and stays in the horizon
+     */
+    public Forecast forecast(List<Room> rooms, List<RoomBlock> blocks, List<BookingRepository.StayHistory> rows,
+                             LocalDate today) {
+        long started = System.nanoTime();
+        int horizon = forecastProperties.getHorizonDays();
+        long origin = today.toEpochDay();
+
+        Map<Room.RoomType, Integer> roomCounts = new EnumMap<>(Room.RoomType.class);
+        Map<Long, Room.RoomType> activeRooms = new HashMap<>();
+        for (Room room : rooms) {
+            if (room.getId() != null && room.getType() != null && !Boolean.FALSE.equals(room.getActive())) {
+                roomCounts.merge(room.getType(), 1, Integer::sum);
+                activeRooms.put(room.getId(), room.getType());
+            }
+        }
+        // Nights closed per room, so overlapping blocks of one room count once
+        Map<Long, BitSet> closedNights = new HashMap<>();
+        for (RoomBlock block : blocks) {
+            if (activeRooms.containsKey(block.getRoom().getId())) {
+                int from = (int) Math.max(0, block.getStartDate().toEpochDay() - origin);
+                int to = (int) Math.min(horizon - 1, block.getEndDate().toEpochDay() - origin);
+                if (from <= to) {
+                    closedNights.computeIfAbsent(block.getRoom().getId(), id -> new BitSet(horizon)).set(from, to + 1);
+                }
+            }
+        }
+        Map<Room.RoomType, int[]> blocked = new EnumMap<>(Room.RoomType.class);
+        closedNights.forEach((roomId, nights) -> {
+            int[] counts = blocked.computeIfAbsent(activeRooms.get(roomId), type -> new int[horizon]);
+            nights.stream().forEach(night -> counts[night]++);
+        });
+
+        Map<Room.RoomType, int[]> roomsOnBooks = new EnumMap<>(Room.RoomType.class);
+        Map<Room.RoomType, int[]> arrivalsOnBooks = new EnumMap<>(Room.RoomType.class);
+        for (Room.RoomType type : Room.RoomType.values()) {
+            roomsOnBooks.put(type, new int[horizon]);
+            arrivalsOnBooks.put(type, new int[horizon]);
+        }
+        for (BookingRepository.StayHistory row : rows) {
+            if (row.getRoomType() == null || row.getCheckInDate() == null || row.getCheckOutDate() == null
+                    || !ACTIVE_STATUSES.contains(row.getStatus())) {
+                continue;
+            }
+            int checkIn = (int) (row.getCheckInDate().toEpochDay() - origin);
+            int from = Math.max(0, checkIn);
+            int to = (int) Math.min(horizon, row.getCheckOutDate().toEpochDay() - origin);
+            int[] onBooks = roomsOnBooks.get(row.getRoomType());
+            for (int night = from; night < to; night++) {
+                onBooks[night]++;
+            }
+            if (checkIn >= 0 && checkIn < horizon) {
+                arrivalsOnBooks.get(row.getRoomType())[checkIn]++;
+            }
+        }
+
+        lock.lock();
+        try {
+            int priorNights = forecastProperties.getWeekdayPriorNights();
+            List<TypeForecast> types = Arrays.stream(Room.RoomType.values()).parallel()
+                    .map(type -> forecastType(type, roomCounts.getOrDefault(type, 0), blocked.get(type),
+                        roomsOnBooks.get(type), arrivalsOnBooks.get(type), today, horizon, priorNights))
+                    .toList();
+            int trainedNights = curves.values().stream().mapToInt(curve -> curve.history.size()).max().orElse(0);
+            long cancelled = curves.values().stream().mapToLong(curve -> curve.cancelled).sum();
+            long bookings = curves.values().stream().mapToLong(curve -> curve.bookings).sum();
+            return new Forecast(today, horizon, trainedNights, types,
+                total(types, horizon, bookings == 0 ? 0 : (double) cancelled / bookings),
+                (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TypeForecast forecastType(Room.RoomType type, int roomCount, int[] blocked, int[] roomsOnBooks,
+                                      int[] arrivalsOnBooks, LocalDate today, int horizon, int priorNights) {
+        Curves curve = curves.get(type);
+        int[] capacity = new int[horizon];
+        double[] rooms = new double[horizon];
+        double[] arrivals = new double[horizon];
+        double[] pickup = new double[horizon];
+        for (int lead = 0; lead < horizon; lead++) {
+            int weekday = today.plusDays(lead).getDayOfWeek().getValue() - 1;
+            capacity[lead] = Math.max(0, roomCount - (blocked != null ? blocked[lead] : 0));
+            if (curve == null) {
+                rooms[lead] = Math.min(capacity[lead], roomsOnBooks[lead]);
+                arrivals[lead] = arrivalsOnBooks[lead];
+                continue;
+            }
+            double expected = roomsOnBooks[lead] + curve.pickup(curve.roomPickup, weekday, lead, priorNights);
+            rooms[lead] = Math.max(0, Math.min(capacity[lead], expected));
+            arrivals[lead] = Math.max(0, arrivalsOnBooks[lead] + curve.pickup(curve.arrivalPickup, weekday, lead, priorNights));
+            pickup[lead] = curve.allWeek(curve.roomPickup, lead);
+        }
+        double cancellationRate = curve == null || curve.bookings == 0 ? 0 : (double) curve.cancelled / curve.bookings;
+        return new TypeForecast(type, roomCount, capacity, roomsOnBooks, rooms, arrivalsOnBooks, arrivals,
+            cancellationRate, pickup);
+    }
+
+    private static TypeForecast total(List<TypeForecast> types, int horizon, double cancellationRate) {
+        int roomCount = 0;
+        int[] capacity = new int[horizon];
+        int[] roomsOnBooks = new int[horizon];
+        double[] rooms = new double[horizon];
+        int[] arrivalsOnBooks = new int[horizon];
+        double[] arrivals = new double[horizon];
+        double[] pickup = new double[horizon];
+        for (TypeForecast type : types) {
+            roomCount += type.roomCount();
+            for (int lead = 0; lead < horizon; lead++) {
+                capacity[lead] += type.capacity()[lead];
+                roomsOnBooks[lead] += type.roomsOnBooks()[lead];
+                rooms[lead] += type.rooms()[lead];
+                arrivalsOnBooks[lead] += type.arrivalsOnBooks()[lead];
+                arrivals[lead] += type.arrivals()[lead];
+                pickup[lead] += type.pickup()[lead];
+            }
+        }
+        return new TypeForecast(null, roomCount, capacity, roomsOnBooks, rooms, arrivalsOnBooks, arrivals,
+            cancellationRate, pickup);
+    }
+
+    private static double percent(double part, double whole) {
+        return whole == 0 ? 0 : part * 100 / whole;
+    }
+
+    /**
+     * Sold rooms and arrivals of each night from..to, with how many of them were on the books at
+     * every lead. A stay is on the books at lead L of a night from its booking date until its
+     * cancellation, i.e. while booked <= night - L < cancelled; that range of leads is added to a
+     * difference array and summed once per night.
+     */
+    private static List<NightHistory> nights(List<BookingRepository.StayHistory> rows, LocalDate from, LocalDate to,
+                                             int leads) {
+        long origin = from.toEpochDay();
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] rooms = new int[days];
+        int[] arrivals = new int[days];
+        int[] bookings = new int[days];
+        int[] cancelled = new int[days];
+        int[][] roomsOnBooks = new int[days][leads + 1];
+        int[][] arrivalsOnBooks = new int[days][leads + 1];
+
+        for (BookingRepository.StayHistory row : rows) {
+            if (row.getCheckInDate() == null || row.getCheckOutDate() == null) {
+                continue;
+            }
+            long checkIn = row.getCheckInDate().toEpochDay();
+            long booked = row.getCreatedAt() != null ? row.getCreatedAt().toLocalDate().toEpochDay() : checkIn;
+            boolean isCancelled = row.getStatus() == Booking.BookingStatus.CANCELLED;
+            // Approximate: bookings have no cancellation timestamp, and updatedAt moves with any
+            // later edit of a cancelled booking, so the cancellation may have happened earlier
+            long cancelledOn = row.getUpdatedAt() != null ? row.getUpdatedAt().toLocalDate().toEpochDay() : booked;
+            long first = Math.max(checkIn, origin);
+            long last = Math.min(row.getCheckOutDate().toEpochDay() - 1, origin + days - 1);
+            for (long night = first; night <= last; night++) {
+                int index = (int) (night - origin);
+                int lo = isCancelled ? (int) Math.max(0, night - cancelledOn + 1) : 0;
+                int hi = (int) Math.min(leads - 1, night - booked);
+                if (!isCancelled) {
+                    rooms[index]++;
+                }
+                if (lo <= hi) {
+                    roomsOnBooks[index][lo]++;
+                    roomsOnBooks[index][hi + 1]--;
+                }
+                if (night == checkIn) {
+                    bookings[index]++;
+                    if (isCancelled) {
+                        cancelled[index]++;
+                    } else {
+                        arrivals[index]++;
+                    }
+                    if (lo <= hi) {
+                        arrivalsOnBooks[index][lo]++;
+                        arrivalsOnBooks[index][hi + 1]--;
+                    }
+                }
+            }
+        }
+
+        List<NightHistory> nights = new ArrayList<>(days);
+        for (int index = 0; index < days; index++) {
+            for (int lead = 1; lead < leads; lead++) {
+                roomsOnBooks[index][lead] += roomsOnBooks[index][lead - 1];
+                arrivalsOnBooks[index][lead] += arrivalsOnBooks[index][lead - 1];
+            }
+            nights.add(new NightHistory(rooms[index], roomsOnBooks[index], arrivals[index], arrivalsOnBooks[index],
+                bookings[index], cancelled[index]));
+        }
+        return nights;
+    }
+
+    /**
+     * One past night of one type. The OnBooks arrays are indexed by lead; bookings and cancelled
+     * count the stays that were to arrive that night.
+     */
+    private record NightHistory(int rooms, int[] roomsOnBooks, int arrivals, int[] arrivalsOnBooks,
+                                int bookings, int cancelled) {
+    }
+
+    /**
+     * Pickup sums [weekday][lead] over the nights in history, kept up to date as nights come and go
+     */
+    private static final class Curves {
+        private final int leads;
+        private final long[][] roomPickup;
+        private final long[][] arrivalPickup;
+        private final int[] nights = new int[7];
+        private long bookings;
+        private long cancelled;
+        private final TreeMap<LocalDate, NightHistory> history = new TreeMap<>();
+
+        Curves(int leads) {
+            this.leads = leads;
+            this.roomPickup = new long[7][leads];
+            this.arrivalPickup = new long[7][leads];
+        }
+
+        void add(LocalDate night, NightHistory added) {
+            NightHistory replaced = history.put(night, added);
+            if (replaced != null) {
+                apply(night, replaced, -1);
+            }
+            apply(night, added, 1);
+        }
+
+        void evictBefore(LocalDate first) {
+            while (!history.isEmpty() && history.firstKey().isBefore(first)) {
+                Map.Entry<LocalDate, NightHistory> oldest = history.pollFirstEntry();
+                apply(oldest.getKey(), oldest.getValue(), -1);
+            }
+        }
+
+        private void apply(LocalDate night, NightHistory history, int sign) {
+            int weekday = night.getDayOfWeek().getValue() - 1;
+            nights[weekday] += sign;
+            for (int lead = 0; lead < leads; lead++) {
+                roomPickup[weekday][lead] += sign * (history.rooms() - history.roomsOnBooks()[lead]);
+                arrivalPickup[weekday][lead] += sign * (history.arrivals() - history.arrivalsOnBooks()[lead]);
+            }
+            bookings += sign * history.bookings();
+            cancelled += sign * history.cancelled();
+        }
+
+        /**
+         * Average pickup of the weekday at the lead, with priorNights nights of the all-week average
+         * blended in
+         */
+        double pickup(long[][] sums, int weekday, int lead, int priorNights) {
+            if (lead >= leads) {
+                return 0;
+            }
+            double allWeek = allWeek(sums, lead);
+            int weekdayNights = nights[weekday] + priorNights;
+            return weekdayNights == 0 ? allWeek : (sums[weekday][lead] + priorNights * allWeek) / weekdayNights;
+        }
+
+        double allWeek(long[][] sums, int lead) {
+            if (lead >= leads) {
+                return 0;
+            }
+            long total = 0;
+            int totalNights = 0;
+            for (int weekday = 0; weekday < 7; weekday++) {
+                total += sums[weekday][lead];
+                totalNights += nights[weekday];
+            }
+            return totalNights == 0 ? 0 : (double) total / totalNights;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.suitespot.service;
+
+import java.util.Optional;
+
+/**
+ * Travel times between named locations, used by TaxiDispatchService for ETAs and fares.
+ * The default implementation reads a local CSV; declare a {@code @Primary} bean of this type
+ * to plug in another source.
+ */
+public interface DistanceTable {
+
+    record Route(long minutes, double km) {
+    }
+
+    /**
+     * Route between two locations, or empty if the table does not know it
+     */
+    Optional<Route> route(String from, String to);
+}
@@ -18,12 +18,17 @@ public class GuestService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public Guest createGuest(Guest guest) {
         // Set default values if not provided
         if (guest.getActive() == null) {
             guest.setActive(true);
         }
-        return guestRepository.save(guest);
+        Guest saved = guestRepository.save(guest);
+        dataVersionService.bump(DataVersionService.GUESTS);
+        return saved;
     }
 
     public Optional<Guest> getGuestById(Long id) {
@@ -55,7 +60,9 @@ public class GuestService {
             guest.setCity(guestDetails.getCity());
             guest.setCountry(guestDetails.getCountry());
             guest.setPreferences(guestDetails.getPreferences());
-            return guestRepository.save(guest);
+            Guest saved = guestRepository.save(guest);
+            dataVersionService.bump(DataVersionService.GUESTS);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Guest not found"));
     }
 
@@ -77,5 +84,6 @@ public class GuestService {
         
         // If no bookings, safe to delete
         guestRepository.deleteById(id);
+        dataVersionService.bump(DataVersionService.GUESTS);
     }
 }
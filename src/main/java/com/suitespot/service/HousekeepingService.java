@@ -0,0 +1,487 @@
+package com.suitespot.service;
+
+import com.suitespot.config.HousekeepingProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.HousekeepingTask;
+import com.suitespot.entity.Room;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.HousekeepingTaskRepository;
+import com.suitespot.repository.RoomBlockRepository;
+import com.suitespot.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Cleaning workflow. Each morning (housekeeping.generate-cron) the day's departures and stayovers
+ * become tasks, one per room; a check-out adds its room as it happens and leaves the room CLEANING
+ * until its task is done, which turns it AVAILABLE and publishes that as a room status event.
+ *
+ * The open tasks are re-planned across the attendants on every change. Tasks are walked in floor
+ * and room order and cut into contiguous runs of about equal minutes, one per attendant (ordered
+ * by the floor they are on), so each attendant works a block of neighbouring floors. Within a run,
+ * departures of rooms with an arrival today go first, then the rest, each time moving to the
+ * nearest floor with work left. A task already started stays with its attendant. Planning is
+ * in memory and O(n log n) in the open tasks; only tasks whose attendant or position changed are
+ * written back.
+ */
+@Service
+public class HousekeepingService {
+
+    private static final List<HousekeepingTask.TaskStatus> OPEN_STATUSES = List.of(
+            HousekeepingTask.TaskStatus.PENDING, HousekeepingTask.TaskStatus.IN_PROGRESS);
+
+    /**
+     * Room numbers in numeric order where they are numbers ("9" before "10")
+     */
+    private static final Comparator<String> ROOM_NUMBER_ORDER = Comparator
+            .comparingInt(String::length)
+            .thenComparing(Comparator.naturalOrder());
+
+    private static final Comparator<HousekeepingTask> FLOOR_ORDER = Comparator
+            .comparingInt(HousekeepingService::floor)
+            .thenComparing(task -> task.getRoom().getRoomNumber(), ROOM_NUMBER_ORDER);
+
+    @Autowired
+    private HousekeepingTaskRepository housekeepingTaskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomBlockRepository roomBlockRepository;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private StatusEventService statusEventService;
+
+    @Autowired
+    private HousekeepingProperties housekeepingProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * A ReentrantLock rather than synchronized: planning holds it across JDBC calls,
+     * and a virtual thread blocking inside synchronized would pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Latest plan, replaced as a whole
+     */
+    private volatile Plan plan = new Plan(null, List.of(), List.of());
+
+    public record Stop(HousekeepingTask task, boolean arrivalWaiting, int startMinute, int endMinute) {
+    }
+
+    public record Route(String attendant, List<Stop> stops) {
+
+        public int getTotalMinutes() {
+            return stops.isEmpty() ? 0 : stops.get(stops.size() - 1).endMinute();
+        }
+    }
+
+    /**
+     * Routes for the open tasks of one day, plus the tasks already done. Minutes count from the
+     * time of planning.
+     */
+    public record Plan(LocalDate date, List<Route> routes, List<HousekeepingTask> done) {
+
+        public int getOpenCount() {
+            return routes.stream().mapToInt(route -> route.stops().size()).sum();
+        }
+    }
+
+    @Scheduled(cron = "${housekeeping.generate-cron:0 0 7 * * *}")
+    public void generateToday() {
+        generateTasks(LocalDate.now());
+    }
+
+    /**
+     * Create the day's tasks: a departure clean for every checked-in stay ending that day and
+     * every room left CLEANING, a stayover service for every other occupied night. Rooms that
+     * already have a task for the day keep it; a stayover becomes a departure if the guest leaves.
+     */
+    public Plan generateTasks(LocalDate day) {
+        lock.lock();
+        try {
+            Map<Long, HousekeepingTask> tasks = housekeepingTaskRepository.findByTaskDateWithRoom(day).stream()
+                    .collect(Collectors.toMap(task -> task.getRoom().getId(), task -> task));
+            List<HousekeepingTask> changed = new ArrayList<>();
+            List<Booking> staying = bookingRepository.findByStatusesCheckingOutAfter(
+                List.of(Booking.BookingStatus.CHECKED_IN), day.minusDays(1));
+            for (Booking booking : staying) {
+                if (booking.getRoom() == null) {
+                    continue;
+                }
+                if (booking.getCheckOutDate().equals(day)) {
+                    ensureTask(tasks, changed, booking.getRoom(), booking, HousekeepingTask.Kind.DEPARTURE, day, false);
+                } else if (booking.getCheckInDate().isBefore(day)) {
+                    ensureTask(tasks, changed, booking.getRoom(), booking, HousekeepingTask.Kind.STAYOVER, day, false);
+                }
+            }
+            for (Room room : roomRepository.findByStatus(Room.RoomStatus.CLEANING)) {
+                ensureTask(tasks, changed, room, null, HousekeepingTask.Kind.DEPARTURE, day, true);
+            }
+            housekeepingTaskRepository.saveAll(changed);
+            return replanLocked(day);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called on check-out: the room waits for a departure clean before it can be sold again
+     */
+    public void roomVacated(Booking booking) {
+        Room room = booking.getRoom();
+        LocalDate today = LocalDate.now();
+        lock.lock();
+        try {
+            if (room.getStatus() != Room.RoomStatus.CLEANING) {
+                room = roomService.forceUpdateRoomStatus(room.getId(), Room.RoomStatus.CLEANING);
+            }
+            Map<Long, HousekeepingTask> tasks = new HashMap<>();
+            housekeepingTaskRepository.findByRoomIdAndTaskDate(room.getId(), today)
+                    .ifPresent(task -> tasks.put(task.getRoom().getId(), task));
+            List<HousekeepingTask> changed = new ArrayList<>();
+            ensureTask(tasks, changed, room, booking, HousekeepingTask.Kind.DEPARTURE, today, true);
+            housekeepingTaskRepository.saveAll(changed);
+            replanLocked(today);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * roomVacated for check-out, run once the check-out has committed
+     */
+    public void roomVacatedAfterCommit(Booking booking) {
+        afterCommit(() -> roomVacated(booking));
+    }
+
+    /**
+     * replan for check-in, run once the check-in has committed
+     */
+    public void replanAfterCommit() {
+        afterCommit(this::replan);
+    }
+
+    /**
+     * Housekeeping is best effort for check-in and check-out. Run in the caller's transaction, a
+     * failure here would mark it rollback-only and undo the check-out with it; run before the
+     * commit, a check-out that then rolls back would still leave its room CLEANING. So the update
+     * waits for the commit and runs in a transaction of its own (data access from afterCommit
+     * would otherwise still join the finished transaction and never be written).
+     */
+    private void afterCommit(Runnable update) {
+        Runnable guarded = () -> {
+            try {
+                TransactionTemplate template = new TransactionTemplate(transactionManager);
+                template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                template.executeWithoutResult(status -> update.run());
+            } catch (Exception e) {
+                System.err.println("Error updating housekeeping: " + e.getMessage());
+                e.printStackTrace();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    public HousekeepingTask startTask(Long id) {
+        lock.lock();
+        try {
+            HousekeepingTask task = housekeepingTaskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Housekeeping task not found"));
+            if (task.getStatus() != HousekeepingTask.TaskStatus.PENDING) {
+                throw new IllegalStateException("Only pending tasks can be started. Current status: " + task.getStatus());
+            }
+            task.setStatus(HousekeepingTask.TaskStatus.IN_PROGRESS);
+            task.setStartedAt(LocalDateTime.now());
+            HousekeepingTask saved = housekeepingTaskRepository.save(task);
+            statusEventService.publish(StatusEventService.HOUSEKEEPING, saved.getId(),
+                saved.getStatus(), HousekeepingTask.TaskStatus.PENDING);
+            replanLocked(saved.getTaskDate());
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finish a task. A vacated room becomes AVAILABLE, which is published as a room status event,
+     * or MAINTENANCE if a room block starts or runs today.
+     */
+    public HousekeepingTask completeTask(Long id) {
+        lock.lock();
+        try {
+            HousekeepingTask task = housekeepingTaskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Housekeeping task not found"));
+            HousekeepingTask.TaskStatus previousStatus = task.getStatus();
+            if (previousStatus == HousekeepingTask.TaskStatus.DONE) {
+                return task;
+            }
+            task.setStatus(HousekeepingTask.TaskStatus.DONE);
+            task.setCompletedAt(LocalDateTime.now());
+            if (task.getStartedAt() == null) {
+                task.setStartedAt(task.getCompletedAt());
+            }
+            HousekeepingTask saved = housekeepingTaskRepository.save(task);
+            statusEventService.publish(StatusEventService.HOUSEKEEPING, saved.getId(), saved.getStatus(), previousStatus);
+            if (saved.getRoom().getStatus() == Room.RoomStatus.CLEANING) {
+                LocalDate today = LocalDate.now();
+                boolean blocked = roomBlockRepository.existsByRoomIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                    saved.getRoom().getId(), today, today);
+                roomService.updateRoomStatus(saved.getRoom().getId(),
+                    blocked ? Room.RoomStatus.MAINTENANCE : Room.RoomStatus.AVAILABLE);
+            }
+            replanLocked(saved.getTaskDate());
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-plan today, e.g. after a check-in changed which rooms have an arrival waiting
+     */
+    public Plan replan() {
+        lock.lock();
+        try {
+            return replanLocked(LocalDate.now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Today's plan, computed on first use of the day
+     */
+    public Plan getPlan() {
+        Plan current = plan;
+        return LocalDate.now().equals(current.date()) ? current : replan();
+    }
+
+    /**
+     * Add the room's task for the day, or turn its stayover into a departure. With vacated, a
+     * finished departure clean is reopened: the room has been left again since.
+     */
+    private void ensureTask(Map<Long, HousekeepingTask> tasks, List<HousekeepingTask> changed, Room room,
+                            Booking booking, HousekeepingTask.Kind kind, LocalDate day, boolean vacated) {
+        HousekeepingTask task = tasks.get(room.getId());
+        if (task == null) {
+            task = HousekeepingTask.builder()
+                    .room(room)
+                    .booking(booking)
+                    .taskDate(day)
+                    .kind(kind)
+                    .status(HousekeepingTask.TaskStatus.PENDING)
+                    .build();
+        } else if (kind == HousekeepingTask.Kind.DEPARTURE && (task.getKind() == HousekeepingTask.Kind.STAYOVER
+                || (vacated && task.getStatus() == HousekeepingTask.TaskStatus.DONE))) {
+            // A stayover service does not prepare the room for the next guest
+            task.setKind(kind);
+            task.setBooking(booking);
+            if (task.getStatus() == HousekeepingTask.TaskStatus.DONE) {
+                task.setStatus(HousekeepingTask.TaskStatus.PENDING);
+                task.setStartedAt(null);
+                task.setCompletedAt(null);
+            }
+        } else {
+            return;
+        }
+        task.setEstimatedMinutes(minutes(task));
+        tasks.put(room.getId(), task);
+        changed.add(task);
+    }
+
+    private Plan replanLocked(LocalDate day) {
+        List<HousekeepingTask> tasks = housekeepingTaskRepository.findByTaskDateWithRoom(day);
+        Set<Long> arrivals = bookingRepository.findByCheckInDateBetween(day, day).stream()
+                .filter(b -> b.getStatus() == Booking.BookingStatus.PENDING || b.getStatus() == Booking.BookingStatus.CONFIRMED)
+                .filter(b -> b.getRoom() != null)
+                .map(b -> b.getRoom().getId())
+                .collect(Collectors.toSet());
+        List<HousekeepingTask> open = tasks.stream().filter(task -> OPEN_STATUSES.contains(task.getStatus())).toList();
+        List<Route> routes = plan(open, arrivals, LocalDateTime.now());
+
+        List<HousekeepingTask> changed = new ArrayList<>();
+        for (Route route : routes) {
+            for (int i = 0; i < route.stops().size(); i++) {
+                HousekeepingTask task = route.stops().get(i).task();
+                if (!Objects.equals(task.getAttendant(), route.attendant()) || !Objects.equals(task.getSequence(), i + 1)) {
+                    task.setAttendant(route.attendant());
+                    task.setSequence(i + 1);
+                    changed.add(task);
+                }
+            }
+        }
+        housekeepingTaskRepository.saveAll(changed);
+
+        List<HousekeepingTask> done = tasks.stream()
+                .filter(task -> task.getStatus() == HousekeepingTask.TaskStatus.DONE)
+                .sorted(Comparator.comparing(HousekeepingTask::getCompletedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        Plan planned = new Plan(day, routes, done);
+        plan = planned;
+        return planned;
+    }
+
+    /**
+     * Split the open tasks into one route per attendant. Pure: only the returned routes are new.
+     */
+    private List<Route> plan(List<HousekeepingTask> open, Set<Long> arrivals, LocalDateTime now) {
+        List<String> names = housekeepingProperties.getAttendants();
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Crew> crews = new HashMap<>();
+        for (String name : names) {
+            crews.put(name, new Crew(name, housekeepingProperties.getStartFloor()));
+        }
+        List<HousekeepingTask> pending = new ArrayList<>();
+        for (HousekeepingTask task : open) {
+            Crew crew = task.getAttendant() != null ? crews.get(task.getAttendant()) : null;
+            if (task.getStatus() == HousekeepingTask.TaskStatus.IN_PROGRESS && crew != null && crew.current == null) {
+                long elapsed = task.getStartedAt() != null ? Duration.between(task.getStartedAt(), now).toMinutes() : 0;
+                crew.current = task;
+                crew.load = (int) Math.max(0, minutes(task) - elapsed);
+                crew.floor = floor(task);
+            } else {
+                pending.add(task);
+            }
+        }
+
+        // Contiguous runs of floors, handed out in the order the attendants stand in the building
+        List<Crew> byFloor = names.stream().map(crews::get)
+                .sorted(Comparator.comparingInt(crew -> crew.floor)).toList();
+        pending.sort(FLOOR_ORDER);
+        int total = byFloor.stream().mapToInt(crew -> crew.load).sum()
+            + pending.stream().mapToInt(this::minutes).sum();
+        int target = (total + byFloor.size() - 1) / byFloor.size();
+        int index = 0;
+        for (HousekeepingTask task : pending) {
+            Crew crew = byFloor.get(index);
+            while (index < byFloor.size() - 1 && !crew.assigned.isEmpty()
+                    && crew.workload() + minutes(task) > target) {
+                crew = byFloor.get(++index);
+            }
+            crew.assigned.add(task);
+            crew.assignedMinutes += minutes(task);
+        }
+
+        List<Route> routes = new ArrayList<>();
+        for (String name : names) {
+            routes.add(route(crews.get(name), arrivals));
+        }
+        return routes;
+    }
+
+    /**
+     * Started task first, then arrival-waiting departures, then the rest; each group visited
+     * nearest floor first from where the attendant is
+     */
+    private Route route(Crew crew, Set<Long> arrivals) {
+        List<Stop> stops = new ArrayList<>();
+        int clock = 0;
+        int floor = housekeepingProperties.getStartFloor();
+        if (crew.current != null) {
+            clock = crew.load;
+            floor = floor(crew.current);
+            stops.add(new Stop(crew.current, arrivals.contains(crew.current.getRoom().getId()), 0, clock));
+        }
+        List<HousekeepingTask> urgent = new ArrayList<>();
+        List<HousekeepingTask> rest = new ArrayList<>();
+        for (HousekeepingTask task : crew.assigned) {
+            boolean waiting = task.getKind() == HousekeepingTask.Kind.DEPARTURE && arrivals.contains(task.getRoom().getId());
+            (waiting ? urgent : rest).add(task);
+        }
+        for (List<HousekeepingTask> group : List.of(urgent, rest)) {
+            TreeMap<Integer, List<HousekeepingTask>> floors = group.stream()
+                    .collect(Collectors.groupingBy(HousekeepingService::floor, TreeMap::new, Collectors.toList()));
+            while (!floors.isEmpty()) {
+                Integer below = floors.floorKey(floor);
+                Integer above = floors.ceilingKey(floor);
+                int next = below == null ? above : above == null ? below
+                    : (above - floor <= floor - below ? above : below);
+                for (HousekeepingTask task : floors.remove(next).stream()
+                        .sorted(Comparator.comparing(t -> t.getRoom().getRoomNumber(), ROOM_NUMBER_ORDER)).toList()) {
+                    clock += travel(floor, next);
+                    floor = next;
+                    int end = clock + minutes(task);
+                    stops.add(new Stop(task, group == urgent, clock, end));
+                    clock = end;
+                }
+            }
+        }
+        return new Route(crew.name, stops);
+    }
+
+    private int travel(int from, int to) {
+        return from == to ? 0
+            : housekeepingProperties.getFloorChangeMinutes() + housekeepingProperties.getMinutesPerFloor() * Math.abs(to - from);
+    }
+
+    private int minutes(HousekeepingTask task) {
+        return task.getKind() == HousekeepingTask.Kind.DEPARTURE
+            ? housekeepingProperties.getDepartureMinutes()
+            : housekeepingProperties.getStayoverMinutes();
+    }
+
+    private static int floor(HousekeepingTask task) {
+        return task.getRoom().getFloor() != null ? task.getRoom().getFloor() : 0;
+    }
+
+    private static class Crew {
+        private final String name;
+        private int floor;
+        private HousekeepingTask current;
+        private int load;
+        private final List<HousekeepingTask> assigned = new ArrayList<>();
+        private int assignedMinutes;
+
+        Crew(String name, int floor) {
+            this.name = name;
+            this.floor = floor;
+        }
+
+        int workload() {
+            return load + assignedMinutes;
+        }
+    }
+}
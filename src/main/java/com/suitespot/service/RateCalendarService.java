@@ -0,0 +1,321 @@
+package com.suitespot.service;
+
+import com.suitespot.config.RateCalendarProperties;
+import com.suitespot.entity.RateRule;
+import com.suitespot.entity.Room;
+import com.suitespot.repository.RateRuleRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Stay pricing from season, weekday and event rules per room type.
+ *
+ * A night costs base x basisPoints / 10000 + amount, where base is the room's pricePerNight and
+ * (basisPoints, amount) is what the rules of its type make of that date: start at (10000, 0), then
+ * apply each matching rule in Kind order - PERCENT scales both, AMOUNT adds to amount, FIXED sets
+ * (0, value). Because that is linear in base, both parts are compiled per type into daily arrays
+ * (amounts in minor units) with prefix sums over a window around today, and any stay in the
+ * window is priced with two subtractions whatever its length. Stays outside the window are summed
+ * night by night from the same rules.
+ *
+ * A rule change recompiles only the nights of the affected type and date range. The window moves
+ * forward nightly (rates.calendar.rebuild-cron). Rules changed on other nodes are picked up by
+ * comparing the active rules with the compiled ones every rates.calendar.refresh-interval-ms.
+ */
+@Service
+public class RateCalendarService {
+
+    private static final int BASE_BASIS_POINTS = 10_000;
+
+    private static final Comparator<RateRule> APPLICATION_ORDER = Comparator
+            .comparing(RateRule::getKind)
+            .thenComparing(RateRule::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @Autowired
+    private RateRuleRepository rateRuleRepository;
+
+    @Autowired
+    private RateCalendarProperties rateCalendarProperties;
+
+    /**
+     * Serializes writers (rebuilds, rule changes). A ReentrantLock rather than synchronized: writers
+     * hold it across JDBC calls, and a virtual thread blocking inside synchronized would pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Replaced as a whole on every change, so readers never see a half-updated calendar
+     */
+    private volatile Map<Room.RoomType, TypeCalendar> calendars = Map.of();
+
+    /**
+     * Adjustment of one night: price = base x basisPoints / 10000 + amountMinor
+     */
+    public record NightRate(int basisPoints, long amountMinor) {
+
+        public BigDecimal getPercent() {
+            return BigDecimal.valueOf(basisPoints, 2);
+        }
+
+        public BigDecimal getAmount() {
+            return BigDecimal.valueOf(amountMinor, 2);
+        }
+
+        public boolean isStandard() {
+            return basisPoints == BASE_BASIS_POINTS && amountMinor == 0;
+        }
+    }
+
+    private record TypeCalendar(LocalDate origin, List<RateRule> rules,
+                                int[] basisPoints, long[] amounts,
+                                long[] basisPointSums, long[] amountSums) {
+
+        int size() {
+            return basisPoints.length;
+        }
+
+        int index(LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(origin, date);
+        }
+    }
+
+    @PostConstruct
+    @Scheduled(cron = "${rates.calendar.rebuild-cron:0 5 0 * * *}")
+    public void rebuild() {
+        lock.lock();
+        try {
+            build(activeRulesByType());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuild if the active rules differ from the compiled ones (changed on another node) or the
+     * window has not moved to today yet
+     */
+    @Scheduled(fixedDelayString = "${rates.calendar.refresh-interval-ms:60000}",
+            initialDelayString = "${rates.calendar.refresh-interval-ms:60000}")
+    public void refresh() {
+        lock.lock();
+        try {
+            Map<Room.RoomType, List<RateRule>> byType = activeRulesByType();
+            LocalDate origin = LocalDate.now().minusDays(rateCalendarProperties.getPastDays());
+            boolean current = !calendars.isEmpty();
+            for (Map.Entry<Room.RoomType, TypeCalendar> entry : calendars.entrySet()) {
+                TypeCalendar calendar = entry.getValue();
+                current &= calendar.origin.equals(origin)
+                    && calendar.rules.equals(byType.getOrDefault(entry.getKey(), List.of()));
+            }
+            if (!current) {
+                build(byType);
+            }
+        } catch (Exception e) {
+            // Keep serving the current calendar; the next run retries
+            System.err.println("Failed to refresh rate calendar: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Active rules per type, in application order
+     */
+    private Map<Room.RoomType, List<RateRule>> activeRulesByType() {
+        return rateRuleRepository.findByActiveTrue().stream()
+                .collect(Collectors.groupingBy(RateRule::getRoomType,
+                    Collectors.collectingAndThen(Collectors.toList(), RateCalendarService::sorted)));
+    }
+
+    private void build(Map<Room.RoomType, List<RateRule>> byType) {
+        LocalDate origin = LocalDate.now().minusDays(rateCalendarProperties.getPastDays());
+        int size = rateCalendarProperties.getPastDays() + rateCalendarProperties.getFutureDays() + 1;
+        Map<Room.RoomType, TypeCalendar> rebuilt = new EnumMap<>(Room.RoomType.class);
+        for (Room.RoomType type : Room.RoomType.values()) {
+            List<RateRule> rules = byType.getOrDefault(type, List.of());
+            TypeCalendar calendar = new TypeCalendar(origin, rules, new int[size], new long[size],
+                new long[size + 1], new long[size + 1]);
+            compile(calendar, 0, size);
+            rebuilt.put(type, calendar);
+        }
+        calendars = rebuilt;
+    }
+
+    // Pricing
+
+    /**
+     * Room charge for the nights from checkIn up to (not including) checkOut
+     */
+    public BigDecimal priceStay(Room room, LocalDate checkIn, LocalDate checkOut) {
+        long baseMinor = room.getPricePerNight().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        return BigDecimal.valueOf(priceStayMinor(room.getType(), baseMinor, checkIn, checkOut), 2);
+    }
+
+    public long priceStayMinor(Room.RoomType type, long baseMinor, LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            return 0;
+        }
+        TypeCalendar calendar = calendars.get(type);
+        long basisPoints;
+        long amounts;
+        int from = calendar.index(checkIn);
+        int to = calendar.index(checkOut);
+        if (from >= 0 && to <= calendar.size()) {
+            basisPoints = calendar.basisPointSums[to] - calendar.basisPointSums[from];
+            amounts = calendar.amountSums[to] - calendar.amountSums[from];
+        } else {
+            basisPoints = 0;
+            amounts = 0;
+            for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+                NightRate rate = rate(calendar.rules, night);
+                basisPoints += rate.basisPoints;
+                amounts += rate.amountMinor;
+            }
+        }
+        long total = Math.floorDiv(baseMinor * basisPoints + BASE_BASIS_POINTS / 2, BASE_BASIS_POINTS) + amounts;
+        return Math.max(0, total);
+    }
+
+    public NightRate nightRate(Room.RoomType type, LocalDate night) {
+        TypeCalendar calendar = calendars.get(type);
+        int index = calendar.index(night);
+        if (index >= 0 && index < calendar.size()) {
+            return new NightRate(calendar.basisPoints[index], calendar.amounts[index]);
+        }
+        return rate(calendar.rules, night);
+    }
+
+    // Rules
+
+    public List<RateRule> getAllRules() {
+        return rateRuleRepository.findAll().stream().sorted(
+            Comparator.comparing(RateRule::getRoomType).thenComparing(APPLICATION_ORDER)).toList();
+    }
+
+    public RateRule saveRule(RateRule rule) {
+        validate(rule);
+        lock.lock();
+        try {
+            RateRule previous = rule.getId() != null ? rateRuleRepository.findById(rule.getId()).orElse(null) : null;
+            RateRule saved = rateRuleRepository.save(rule);
+            if (previous != null) {
+                recompile(previous.getRoomType(), previous.getStartDate(), previous.getEndDate());
+            }
+            recompile(saved.getRoomType(), saved.getStartDate(), saved.getEndDate());
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void deleteRule(Long id) {
+        lock.lock();
+        try {
+            RateRule rule = rateRuleRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Rate rule not found"));
+            rateRuleRepository.delete(rule);
+            recompile(rule.getRoomType(), rule.getStartDate(), rule.getEndDate());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void validate(RateRule rule) {
+        if (rule.getRoomType() == null || rule.getKind() == null || rule.getAdjustment() == null
+                || rule.getAdjustmentValue() == null) {
+            throw new IllegalArgumentException("Room type, kind, adjustment and value are required");
+        }
+        if (rule.getStartDate() != null && rule.getEndDate() != null && rule.getEndDate().isBefore(rule.getStartDate())) {
+            throw new IllegalArgumentException("End date is before start date");
+        }
+        if (rule.getAdjustment() == RateRule.Adjustment.PERCENT
+                && rule.getAdjustmentValue().compareTo(BigDecimal.valueOf(-100)) < 0) {
+            throw new IllegalArgumentException("A rate cannot be reduced by more than 100%");
+        }
+        if (rule.getAdjustment() == RateRule.Adjustment.FIXED && rule.getAdjustmentValue().signum() < 0) {
+            throw new IllegalArgumentException("A fixed rate cannot be negative");
+        }
+    }
+
+    /**
+     * Reload the rules of one type and recompile the nights from..to (null: open-ended), then the
+     * prefix sums from the first changed night on. Other types keep their arrays.
+     */
+    private void recompile(Room.RoomType type, LocalDate from, LocalDate to) {
+        TypeCalendar current = calendars.get(type);
+        int start = from == null ? 0 : Math.max(0, current.index(from));
+        int end = to == null ? current.size() : Math.min(current.size(), current.index(to) + 1);
+        TypeCalendar updated = new TypeCalendar(current.origin,
+            sorted(rateRuleRepository.findByRoomTypeAndActiveTrue(type)),
+            current.basisPoints.clone(), current.amounts.clone(),
+            current.basisPointSums.clone(), current.amountSums.clone());
+        if (start < end) {
+            compile(updated, start, end);
+        }
+        Map<Room.RoomType, TypeCalendar> next = new EnumMap<>(calendars);
+        next.put(type, updated);
+        calendars = next;
+    }
+
+    private static void compile(TypeCalendar calendar, int start, int end) {
+        for (int i = start; i < end; i++) {
+            NightRate rate = rate(calendar.rules, calendar.origin.plusDays(i));
+            calendar.basisPoints[i] = rate.basisPoints;
+            calendar.amounts[i] = rate.amountMinor;
+        }
+        for (int i = start; i < calendar.size(); i++) {
+            calendar.basisPointSums[i + 1] = calendar.basisPointSums[i] + calendar.basisPoints[i];
+            calendar.amountSums[i + 1] = calendar.amountSums[i] + calendar.amounts[i];
+        }
+    }
+
+    private static NightRate rate(List<RateRule> rules, LocalDate night) {
+        long basisPoints = BASE_BASIS_POINTS;
+        long amount = 0;
+        for (RateRule rule : rules) {
+            if (!rule.appliesOn(night)) {
+                continue;
+            }
+            BigDecimal value = rule.getAdjustmentValue();
+            switch (rule.getAdjustment()) {
+                case PERCENT -> {
+                    BigDecimal factor = BigDecimal.valueOf(100).add(value);
+                    basisPoints = scale(basisPoints, factor);
+                    amount = scale(amount, factor);
+                }
+                case AMOUNT -> amount += toMinor(value);
+                case FIXED -> {
+                    basisPoints = 0;
+                    amount = toMinor(value);
+                }
+            }
+        }
+        return new NightRate(Math.toIntExact(basisPoints), amount);
+    }
+
+    private static long scale(long value, BigDecimal percentFactor) {
+        return BigDecimal.valueOf(value).multiply(percentFactor)
+                .divide(BigDecimal.valueOf(100), 0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static List<RateRule> sorted(List<RateRule> rules) {
+        return rules.stream().sorted(APPLICATION_ORDER).toList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.suitespot.service;
+
+import com.suitespot.entity.User;
+import com.suitespot.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed authorization data for method security. Grants are a role x permission boolean
+ * matrix built once from {@link #GRANTS}, and the role of every active user is held in memory
+ * and kept current by UserService, so a check is a map lookup plus an array lookup instead of
+ * a users table query. Role changes and deactivations apply on the next request, also for
+ * sessions and signed tokens issued before the change.
+ *
+ * The user index is per node: UserService only updates the node that made the change. Other
+ * nodes pick it up when they reload from the users table every auth.roles.reload-interval-ms, so
+ * with several nodes a revocation can take up to one interval to reach them.
+ *
+ * Used from @PreAuthorize as {@code @rolePermissionMatrix.allows(authentication, 'MANAGE_USERS')}.
+ */
+@Component
+public class RolePermissionMatrix {
+
+    public enum Permission {
+        ADMIN_CONSOLE, MANAGE_USERS, MANAGE_SETTINGS, MANAGE_BACKUPS, VIEW_REPORTS, MANAGE_ROOMS, VIEW_METRICS, MANAGE_RATES
+    }
+
+    private static final Map<User.Role, Set<Permission>> GRANTS = Map.of(
+        User.Role.ADMIN, EnumSet.allOf(Permission.class),
+        User.Role.MANAGER, EnumSet.of(Permission.VIEW_REPORTS, Permission.MANAGE_ROOMS, Permission.MANAGE_RATES),
+        User.Role.RECEPTIONIST, EnumSet.noneOf(Permission.class)
+    );
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * [role ordinal][permission ordinal]
+     */
+    private final boolean[][] matrix = new boolean[User.Role.values().length][Permission.values().length];
+
+    /**
+     * Username -> role, active users only. Replaced as a whole on reload, so checks never see it half built
+     */
+    private volatile Map<String, User.Role> activeRoles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (User.Role role : User.Role.values()) {
+            for (Permission permission : GRANTS.getOrDefault(role, Set.of())) {
+                matrix[role.ordinal()][permission.ordinal()] = true;
+            }
+        }
+        reload();
+    }
+
+    /**
+     * Rebuild the user index from the users table, picking up changes made on other nodes
+     */
+    @Scheduled(fixedDelayString = "${auth.roles.reload-interval-ms:15000}", initialDelayString = "${auth.roles.reload-interval-ms:15000}")
+    public void reload() {
+        try {
+            Map<String, User.Role> roles = new ConcurrentHashMap<>();
+            userRepository.findAll().forEach(user -> record(roles, user));
+            activeRoles = roles;
+        } catch (Exception e) {
+            // Keep the previous index; the next run retries
+            System.err.println("Failed to reload user roles: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Record a created or updated user
+     */
+    public void refreshUser(User user) {
+        record(activeRoles, user);
+    }
+
+    private static void record(Map<String, User.Role> roles, User user) {
+        if (Boolean.TRUE.equals(user.getActive()) && user.getRole() != null) {
+            roles.put(user.getUsername(), user.getRole());
+        } else {
+            roles.remove(user.getUsername());
+        }
+    }
+
+    public void removeUser(String username) {
+        activeRoles.remove(username);
+    }
+
+    public boolean allows(Authentication authentication, String permission) {
+        return allows(authentication, Permission.valueOf(permission));
+    }
+
+    public boolean allows(Authentication authentication, Permission permission) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        User.Role role = activeRoles.get(authentication.getName());
+        return role != null && matrix[role.ordinal()][permission.ordinal()];
+    }
+}
@@ -0,0 +1,532 @@
+package com.suitespot.service;
+
+import com.suitespot.config.RoomAssignmentProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Guest;
+import com.suitespot.entity.Room;
+import com.suitespot.entity.RoomBlock;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.RoomBlockRepository;
+import com.suitespot.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Assigns concrete rooms to the PENDING and CONFIRMED arrivals of the next
+ * rooms.assignment.horizon-days, so stays are packed instead of scattered wherever a clerk put them.
+ *
+ * A room's stays are intervals of nights, and assigning rooms of one type is colouring an interval
+ * graph. Arrivals are taken in check-in order (longest stay first on the same day) and each goes to
+ * the feasible room of its type with the lowest cost: nights left idle before the stay (best fit -
+ * rooms freed recently are reused first, long-free rooms stay open for long stays), a penalty for
+ * leaving a stranded gap shorter than rooms.assignment.stranded-gap-nights on either side, misses
+ * against Guest.preferences, distance from the floor of the other rooms in the same group (one
+ * guest, same arrival date), and a small bonus for the room the booking already has, so a rerun on
+ * an unchanged plan moves nothing.
+ *
+ * Types are independent, so each is assigned on its own thread (assignmentExecutor). Arrivals that
+ * did not fit their own type are then placed in the cheapest type above it with a free room that
+ * sleeps at least as many as the booked one, in one sequential pass. Types are ranked by the
+ * average pricePerNight of their rooms, not by declaration order (a SUITE may well cost more and
+ * sleep more than a DELUXE). Stays that are checked in, arrive within rooms.assignment.freeze-days
+ * or after the horizon keep their room and are worked around, and so are room blocks. An upgrade
+ * keeps the booked price; later runs treat the upgraded type as booked.
+ */
+@Service
+public class RoomAssignmentService {
+
+    /**
+     * Costs are in nights: a stranded gap weighs like four idle nights, a missed preference like three
+     */
+    private static final int STRANDED_GAP_PENALTY = 4;
+    private static final int PREFERENCE_PENALTY = 3;
+    private static final int GROUP_FLOOR_PENALTY = 2;
+    private static final int KEEP_ROOM_BONUS = 1;
+
+    private static final int INFEASIBLE = Integer.MAX_VALUE;
+
+    private static final List<Booking.BookingStatus> ACTIVE_STATUSES = List.of(
+            Booking.BookingStatus.PENDING, Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.CHECKED_IN);
+
+    private static final Comparator<Stay> ARRIVAL_ORDER = Comparator
+            .comparingInt((Stay stay) -> stay.checkIn)
+            .thenComparingInt(stay -> stay.checkIn - stay.checkOut)
+            .thenComparing(stay -> stay.group)
+            .thenComparing(stay -> stay.booking.getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomBlockRepository roomBlockRepository;
+
+    @Autowired
+    private RoomAssignmentProperties roomAssignmentProperties;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    @Qualifier("assignmentExecutor")
+    private Executor assignmentExecutor;
+
+    public record Move(Booking booking, Room from, Room to) {
+
+        /**
+         * Only the upgrade pass changes a stay's type, and only to a higher ranked one
+         */
+        public boolean isUpgrade() {
+            return to.getType() != from.getType();
+        }
+    }
+
+    /**
+     * Outcome of one run. strandedNights counts free gaps shorter than stranded-gap-nights
+     * between two stays in the horizon, with the current and with the proposed rooms.
+     */
+    public record Plan(LocalDate from, LocalDate to, int arrivals, List<Move> moves, List<Booking> unplaced,
+                       int strandedNightsBefore, int strandedNightsAfter, long elapsedMillis) {
+
+        public long getUpgrades() {
+            return moves.stream().filter(Move::isUpgrade).count();
+        }
+
+        public boolean isApplicable() {
+            return unplaced.isEmpty();
+        }
+    }
+
+    /**
+     * Compute the assignment without saving it
+     */
+    @Transactional(readOnly = true)
+    public Plan preview() {
+        LocalDate today = LocalDate.now();
+        return optimize(roomRepository.findAll(),
+            bookingRepository.findByStatusesCheckingOutAfter(ACTIVE_STATUSES, today), blocksInHorizon(today), today);
+    }
+
+    /**
+     * Compute the assignment and move the bookings. Refused as a whole while some arrival fits no
+     * room at all: overbooking needs a person, and a partial plan could hand its room to someone else.
+     */
+    @Transactional
+    public Plan apply() {
+        LocalDate today = LocalDate.now();
+        Plan plan = optimize(roomRepository.findAll(),
+            bookingRepository.findByStatusesCheckingOutAfter(ACTIVE_STATUSES, today), blocksInHorizon(today), today);
+        if (!plan.isApplicable()) {
+            throw new IllegalStateException(plan.unplaced().size()
+                + " arrival(s) fit no free room in the horizon; resolve the overbooking first");
+        }
+        if (!plan.moves().isEmpty()) {
+            List<Booking> moved = new ArrayList<>(plan.moves().size());
+            for (Move move : plan.moves()) {
+                move.booking().setRoom(move.to());
+                moved.add(move.booking());
+            }
+            bookingRepository.saveAll(moved);
+            dataVersionService.bump(DataVersionService.BOOKINGS);
+        }
+        return plan;
+    }
+
+    private List<RoomBlock> blocksInHorizon(LocalDate today) {
+        return roomBlockRepository.findOverlapping(today, today.plusDays(roomAssignmentProperties.getHorizonDays()));
+    }
+
+    /**
+     * The optimizer itself: bookings are only read, the proposed rooms are returned as moves
+     */
+    public Plan optimize(List<Room> rooms, List<Booking> bookings, List<RoomBlock> blocks, LocalDate today) {
+        long started = System.nanoTime();
+        int horizonStart = (int) today.toEpochDay();
+        int freezeEnd = horizonStart + roomAssignmentProperties.getFreezeDays();
+        int horizonEnd = horizonStart + roomAssignmentProperties.getHorizonDays();
+
+        // A room in MAINTENANCE because of a block is usable again once the block is over
+        Set<Long> blockedToday = new HashSet<>();
+        for (RoomBlock block : blocks) {
+            if (block.covers(today)) {
+                blockedToday.add(block.getRoom().getId());
+            }
+        }
+        Map<Long, RoomState> states = new LinkedHashMap<>();
+        for (Room room : rooms) {
+            if (room.getId() != null && room.getType() != null && !Boolean.FALSE.equals(room.getActive())
+                    && (room.getStatus() != Room.RoomStatus.MAINTENANCE || blockedToday.contains(room.getId()))) {
+                states.put(room.getId(), new RoomState(room));
+            }
+        }
+        for (RoomBlock block : blocks) {
+            RoomState state = states.get(block.getRoom().getId());
+            if (state != null) {
+                state.occupy((int) block.getStartDate().toEpochDay(), (int) block.getEndDate().toEpochDay() + 1);
+            }
+        }
+        int lowestFloor = states.values().stream().mapToInt(state -> state.floor).min().orElse(0);
+        int highestFloor = states.values().stream().mapToInt(state -> state.floor).max().orElse(0);
+        int middleFloor = (lowestFloor + highestFloor) / 2;
+
+        List<Stay> stays = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getRoom() == null || booking.getCheckInDate() == null || booking.getCheckOutDate() == null
+                    || !ACTIVE_STATUSES.contains(booking.getStatus())) {
+                continue;
+            }
+            int checkIn = (int) booking.getCheckInDate().toEpochDay();
+            int checkOut = (int) booking.getCheckOutDate().toEpochDay();
+            if (checkOut <= checkIn || checkOut <= horizonStart) {
+                continue;
+            }
+            boolean movable = booking.getStatus() != Booking.BookingStatus.CHECKED_IN
+                && checkIn >= freezeEnd && checkIn < horizonEnd;
+            if (movable) {
+                stays.add(new Stay(booking, checkIn, checkOut, Preferences.of(booking.getGuest())));
+            } else if (states.containsKey(booking.getRoom().getId())) {
+                states.get(booking.getRoom().getId()).hold(checkIn, checkOut);
+            }
+        }
+        stays.sort(ARRIVAL_ORDER);
+
+        int strandedGap = roomAssignmentProperties.getStrandedGapNights();
+        int strandedBefore = strandedNights(current(states, stays), horizonStart, horizonEnd, strandedGap);
+
+        Map<Room.RoomType, List<RoomState>> roomsByType = new EnumMap<>(Room.RoomType.class);
+        for (RoomState state : states.values()) {
+            roomsByType.computeIfAbsent(state.room.getType(), type -> new ArrayList<>()).add(state);
+        }
+        Map<Room.RoomType, List<Stay>> staysByType = new EnumMap<>(Room.RoomType.class);
+        for (Stay stay : stays) {
+            staysByType.computeIfAbsent(stay.booking.getRoom().getType(), type -> new ArrayList<>()).add(stay);
+        }
+
+        // Each task only touches the rooms and stays of its own type
+        List<CompletableFuture<List<Stay>>> tasks = new ArrayList<>();
+        for (Map.Entry<Room.RoomType, List<Stay>> entry : staysByType.entrySet()) {
+            List<RoomState> candidates = roomsByType.getOrDefault(entry.getKey(), List.of());
+            tasks.add(CompletableFuture.supplyAsync(() -> assign(entry.getValue(), candidates,
+                horizonStart, strandedGap, middleFloor), assignmentExecutor));
+        }
+        List<Stay> overflow = new ArrayList<>();
+        for (CompletableFuture<List<Stay>> task : tasks) {
+            overflow.addAll(task.join());
+        }
+
+        if (roomAssignmentProperties.isUpgrades() && !overflow.isEmpty()) {
+            overflow.sort(ARRIVAL_ORDER);
+            List<Room.RoomType> ranking = rankByPrice(rooms);
+            Map<String, Integer> groupFloors = new HashMap<>();
+            for (Stay stay : overflow) {
+                Room booked = stay.booking.getRoom();
+                int bookedRank = ranking.indexOf(booked.getType());
+                for (int i = bookedRank + 1; bookedRank >= 0 && i < ranking.size() && stay.assigned == null; i++) {
+                    List<RoomState> larger = roomsByType.getOrDefault(ranking.get(i), List.of()).stream()
+                            .filter(state -> sleepsAsMany(state.room, booked))
+                            .toList();
+                    place(stay, larger, groupFloors, horizonStart, strandedGap, middleFloor);
+                }
+            }
+        }
+
+        List<Move> moves = new ArrayList<>();
+        List<Booking> unplaced = new ArrayList<>();
+        for (Stay stay : stays) {
+            if (stay.assigned == null) {
+                unplaced.add(stay.booking);
+            } else if (!stay.assigned.getId().equals(stay.booking.getRoom().getId())) {
+                moves.add(new Move(stay.booking, stay.booking.getRoom(), stay.assigned));
+            }
+        }
+        int strandedAfter = strandedNights(states, horizonStart, horizonEnd, strandedGap);
+        return new Plan(today, today.plusDays(roomAssignmentProperties.getHorizonDays()), stays.size(),
+            moves, unplaced, strandedBefore, strandedAfter, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Room types from cheapest to dearest by the average pricePerNight of their rooms; types
+     * without a priced room are left out, so nothing is upgraded into or out of them
+     */
+    private static List<Room.RoomType> rankByPrice(List<Room> rooms) {
+        Map<Room.RoomType, BigDecimal> totals = new EnumMap<>(Room.RoomType.class);
+        Map<Room.RoomType, Integer> counts = new EnumMap<>(Room.RoomType.class);
+        for (Room room : rooms) {
+            if (room.getType() != null && room.getPricePerNight() != null) {
+                totals.merge(room.getType(), room.getPricePerNight(), BigDecimal::add);
+                counts.merge(room.getType(), 1, Integer::sum);
+            }
+        }
+        Map<Room.RoomType, BigDecimal> averages = new EnumMap<>(Room.RoomType.class);
+        totals.forEach((type, total) ->
+            averages.put(type, total.divide(BigDecimal.valueOf(counts.get(type)), 2, RoundingMode.HALF_UP)));
+        return averages.keySet().stream()
+                .sorted(Comparator.comparing((Room.RoomType type) -> averages.get(type)).thenComparing(Enum::ordinal))
+                .toList();
+    }
+
+    /**
+     * An upgrade must not leave part of the party without a bed: the new room sleeps at least as
+     * many as the booked one (bookings do not record a guest count)
+     */
+    private static boolean sleepsAsMany(Room candidate, Room booked) {
+        return booked.getCapacity() == null
+            || (candidate.getCapacity() != null && candidate.getCapacity() >= booked.getCapacity());
+    }
+
+    /**
+     * Place the stays of one type in check-in order, returning those no room of the type could take
+     */
+    private static List<Stay> assign(List<Stay> stays, List<RoomState> rooms, int horizonStart,
+                                     int strandedGap, int middleFloor) {
+        Map<String, Integer> groupFloors = new HashMap<>();
+        List<Stay> overflow = new ArrayList<>();
+        for (Stay stay : stays) {
+            if (!place(stay, rooms, groupFloors, horizonStart, strandedGap, middleFloor)) {
+                overflow.add(stay);
+            }
+        }
+        return overflow;
+    }
+
+    private static boolean place(Stay stay, List<RoomState> rooms, Map<String, Integer> groupFloors,
+                                 int horizonStart, int strandedGap, int middleFloor) {
+        Integer groupFloor = groupFloors.get(stay.group);
+        RoomState best = null;
+        long bestCost = Long.MAX_VALUE;
+        for (RoomState room : rooms) {
+            int fit = room.fit(stay.checkIn, stay.checkOut, horizonStart, strandedGap);
+            if (fit == INFEASIBLE) {
+                continue;
+            }
+            long cost = fit + (long) PREFERENCE_PENALTY * stay.preferences.misses(room, middleFloor);
+            if (groupFloor != null) {
+                cost += (long) GROUP_FLOOR_PENALTY * Math.abs(room.floor - groupFloor);
+            }
+            if (room.room.getId().equals(stay.booking.getRoom().getId())) {
+                cost -= KEEP_ROOM_BONUS;
+            }
+            if (cost < bestCost) {
+                best = room;
+                bestCost = cost;
+            }
+        }
+        if (best == null) {
+            return false;
+        }
+        best.hold(stay.checkIn, stay.checkOut);
+        stay.assigned = best.room;
+        groupFloors.putIfAbsent(stay.group, best.floor);
+        return true;
+    }
+
+    /**
+     * The rooms as they are today: fixed stays plus the arrivals in their current rooms
+     */
+    private static Map<Long, RoomState> current(Map<Long, RoomState> states, List<Stay> stays) {
+        Map<Long, RoomState> current = new HashMap<>();
+        states.forEach((id, state) -> current.put(id, state.copy()));
+        for (Stay stay : stays) {
+            RoomState state = current.get(stay.booking.getRoom().getId());
+            if (state != null) {
+                state.hold(stay.checkIn, stay.checkOut);
+            }
+        }
+        return current;
+    }
+
+    private static int strandedNights(Map<Long, RoomState> states, int horizonStart, int horizonEnd, int strandedGap) {
+        int stranded = 0;
+        for (RoomState state : states.values()) {
+            Integer previousEnd = null;
+            for (Map.Entry<Integer, Integer> stay : state.busy.entrySet()) {
+                if (previousEnd != null && previousEnd >= horizonStart && stay.getKey() <= horizonEnd) {
+                    int gap = stay.getKey() - previousEnd;
+                    if (gap > 0 && gap < strandedGap) {
+                        stranded += gap;
+                    }
+                }
+                previousEnd = stay.getValue();
+            }
+        }
+        return stranded;
+    }
+
+    /**
+     * An arrival to place. Days are epoch days; group is guest + arrival date.
+     */
+    private static final class Stay {
+        private final Booking booking;
+        private final int checkIn;
+        private final int checkOut;
+        private final String group;
+        private final Preferences preferences;
+        private Room assigned;
+
+        Stay(Booking booking, int checkIn, int checkOut, Preferences preferences) {
+            this.booking = booking;
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+            this.group = (booking.getGuest() != null ? booking.getGuest().getId() : null) + "@" + checkIn;
+            this.preferences = preferences;
+        }
+    }
+
+    /**
+     * Days taken in one room, as start -> end (exclusive) epoch days. A block takes its nights; a stay
+     * also takes its check-out day, as bookings overlap inclusively (see BookingRepository.findBookedRoomIds:
+     * no same-day turnover). Overlapping stays and blocks are merged, so intervals never overlap.
+     */
+    private static final class RoomState {
+        private final Room room;
+        private final int floor;
+        private final String amenities;
+        private final TreeMap<Integer, Integer> busy;
+
+        RoomState(Room room) {
+            this(room, new TreeMap<>());
+        }
+
+        private RoomState(Room room, TreeMap<Integer, Integer> busy) {
+            this.room = room;
+            this.floor = room.getFloor() != null ? room.getFloor() : 0;
+            this.amenities = room.getAmenities() != null ? room.getAmenities().toLowerCase(Locale.ROOT) : "";
+            this.busy = busy;
+        }
+
+        RoomState copy() {
+            return new RoomState(room, new TreeMap<>(busy));
+        }
+
+        /**
+         * Take a stay's days up to and including its check-out day
+         */
+        void hold(int checkIn, int checkOut) {
+            occupy(checkIn, checkOut + 1);
+        }
+
+        void occupy(int from, int to) {
+            int start = from;
+            int end = to;
+            Map.Entry<Integer, Integer> previous = busy.floorEntry(start);
+            if (previous != null && previous.getValue() > start) {
+                start = previous.getKey();
+                end = Math.max(end, previous.getValue());
+            }
+            Map.Entry<Integer, Integer> next = busy.ceilingEntry(start);
+            while (next != null && next.getKey() < end) {
+                end = Math.max(end, next.getValue());
+                busy.remove(next.getKey());
+                next = busy.higherEntry(next.getKey());
+            }
+            busy.put(start, end);
+        }
+
+        /**
+         * Idle days before the stay plus stranded-gap penalties, or INFEASIBLE if a day it needs
+         * (check-out day included) is taken
+         */
+        int fit(int checkIn, int checkOut, int horizonStart, int strandedGap) {
+            int end = checkOut + 1;
+            Map.Entry<Integer, Integer> previous = busy.lowerEntry(end);
+            if (previous != null && previous.getValue() > checkIn) {
+                return INFEASIBLE;
+            }
+            int cost;
+            if (previous != null && previous.getValue() > horizonStart) {
+                cost = checkIn - previous.getValue();
+                if (cost > 0 && cost < strandedGap) {
+                    cost += STRANDED_GAP_PENALTY;
+                }
+            } else {
+                cost = checkIn - horizonStart;
+            }
+            Map.Entry<Integer, Integer> next = busy.ceilingEntry(end);
+            if (next != null) {
+                int gapAfter = next.getKey() - end;
+                if (gapAfter > 0 && gapAfter < strandedGap) {
+                    cost += STRANDED_GAP_PENALTY;
+                }
+            }
+            return cost;
+        }
+    }
+
+    /**
+     * What can be read from Guest.preferences: "high floor", "low floor" / "ground floor",
+     * "floor 3", and anything else (comma separated) is looked for in Room.amenities
+     */
+    private record Preferences(Integer floor, boolean high, boolean low, List<String> amenities) {
+
+        private static final Preferences NONE = new Preferences(null, false, false, List.of());
+        private static final Pattern FLOOR = Pattern.compile("floor\\s*(\\d+)");
+
+        static Preferences of(Guest guest) {
+            if (guest == null || guest.getPreferences() == null || guest.getPreferences().isBlank()) {
+                return NONE;
+            }
+            Integer floor = null;
+            boolean high = false;
+            boolean low = false;
+            List<String> amenities = new ArrayList<>();
+            for (String part : guest.getPreferences().toLowerCase(Locale.ROOT).split("[,;]")) {
+                String token = part.trim();
+                Matcher matcher = FLOOR.matcher(token);
+                if (token.isEmpty()) {
+                    continue;
+                } else if (matcher.find()) {
+                    floor = Integer.valueOf(matcher.group(1));
+                } else if (token.contains("high floor") || token.contains("upper floor")) {
+                    high = true;
+                } else if (token.contains("low floor") || token.contains("ground floor")) {
+                    low = true;
+                } else {
+                    amenities.add(token);
+                }
+            }
+            return new Preferences(floor, high, low, amenities);
+        }
+
+        int misses(RoomState room, int middleFloor) {
+            int misses = 0;
+            if (floor != null && floor != room.floor) {
+                misses++;
+            }
+            if (high && room.floor <= middleFloor) {
+                misses++;
+            }
+            if (low && room.floor > middleFloor) {
+                misses++;
+            }
+            for (String amenity : amenities) {
+                if (!room.amenities.contains(amenity)) {
+                    misses++;
+                }
+            }
+            return misses;
+        }
+    }
+}
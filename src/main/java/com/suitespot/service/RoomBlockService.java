@@ -0,0 +1,205 @@
+package com.suitespot.service;
+
+import com.suitespot.config.RoomBlockProperties;
+import com.suitespot.entity.Booking;
+import com.suitespot.entity.Room;
+import com.suitespot.entity.RoomBlock;
+import com.suitespot.repository.BookingRepository;
+import com.suitespot.repository.RoomBlockRepository;
+import com.suitespot.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dated out-of-order windows. A block closes one room for a range of nights; a block for a floor
+ * or a type is stored as one block per room, so availability only ever checks room_id and dates.
+ * Searches and the room assignment optimizer read blocks by date range like bookings, and rooms
+ * follow them: a room is set MAINTENANCE on the first night of its block (or when its cleaning is
+ * done, if a guest was still in it) and AVAILABLE again once the block has ended
+ * (rooms.blocks.sync-cron).
+ */
+@Service
+public class RoomBlockService {
+
+    private static final List<Booking.BookingStatus> ACTIVE_STATUSES = List.of(
+            Booking.BookingStatus.PENDING, Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.CHECKED_IN);
+
+    @Autowired
+    private RoomBlockRepository roomBlockRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private RoomBlockProperties roomBlockProperties;
+
+    /**
+     * A ReentrantLock rather than synchronized: syncing holds it across JDBC calls,
+     * and a virtual thread blocking inside synchronized would pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The blocks placed, and the stays already booked into their nights that need another room
+     */
+    public record Result(List<RoomBlock> blocks, List<Booking> conflicts) {
+    }
+
+    /**
+     * Blocks that have not ended yet, by start date and room
+     */
+    public List<RoomBlock> getCurrentAndUpcoming() {
+        return roomBlockRepository.findEndingOnOrAfter(LocalDate.now());
+    }
+
+    /**
+     * The active rooms a block applies to: one room, or every room on a floor and/or of a type
+     */
+    public List<Room> resolveRooms(Long roomId, Integer floor, Room.RoomType type) {
+        if (roomId != null) {
+            return roomRepository.findById(roomId).map(List::of)
+                    .orElseThrow(() -> new RuntimeException("Room not found"));
+        }
+        if (floor == null && type == null) {
+            throw new IllegalArgumentException("Choose a room, a floor or a room type");
+        }
+        List<Room> rooms = type != null ? roomRepository.findByType(type) : roomRepository.findAll();
+        return rooms.stream()
+                .filter(room -> !Boolean.FALSE.equals(room.getActive()))
+                .filter(room -> floor == null || floor.equals(room.getFloor()))
+                .toList();
+    }
+
+    /**
+     * Close the rooms from startDate to endDate, both nights included. Stays already booked into
+     * those nights are kept and returned, so they can be moved (the room assignment optimizer
+     * works around blocks).
+     */
+    public Result createBlocks(List<Room> rooms, LocalDate startDate, LocalDate endDate, String reason) {
+        LocalDate today = LocalDate.now();
+        if (rooms.isEmpty()) {
+            throw new IllegalArgumentException("No rooms match the block");
+        }
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("The last night must not be before the first night");
+        }
+        if (startDate.isBefore(today)) {
+            throw new IllegalArgumentException("Blocks cannot start in the past");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > roomBlockProperties.getMaxNights()) {
+            throw new IllegalArgumentException("Blocks are limited to " + roomBlockProperties.getMaxNights() + " nights");
+        }
+        String trimmedReason = reason == null || reason.isBlank() ? null : reason.trim();
+
+        lock.lock();
+        try {
+            List<RoomBlock> blocks = new ArrayList<>(rooms.size());
+            for (Room room : rooms) {
+                blocks.add(RoomBlock.builder()
+                        .room(room)
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .reason(trimmedReason)
+                        .released(false)
+                        .build());
+            }
+            List<RoomBlock> saved = roomBlockRepository.saveAll(blocks);
+            List<Booking> conflicts = bookingRepository.findByRoomsWithNightsBetween(ACTIVE_STATUSES,
+                rooms.stream().map(Room::getId).toList(), startDate, endDate);
+            if (!conflicts.isEmpty()) {
+                System.err.println(String.format("Room block %s to %s overlaps %d booking(s)",
+                    startDate, endDate, conflicts.size()));
+            }
+            if (!startDate.isAfter(today)) {
+                syncLocked(today);
+            }
+            dataVersionService.bump(DataVersionService.ROOMS);
+            return new Result(saved, conflicts);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a block; a room it holds out of order today is handed back unless another block covers it
+     */
+    public void deleteBlock(Long id) {
+        LocalDate today = LocalDate.now();
+        lock.lock();
+        try {
+            RoomBlock block = roomBlockRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Room block not found"));
+            roomBlockRepository.delete(block);
+            Long roomId = block.getRoom().getId();
+            if (block.covers(today)
+                    && !roomBlockRepository.existsByRoomIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(roomId, today, today)
+                    && block.getRoom().getStatus() == Room.RoomStatus.MAINTENANCE) {
+                roomService.updateRoomStatus(roomId, Room.RoomStatus.AVAILABLE);
+            }
+            dataVersionService.bump(DataVersionService.ROOMS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${rooms.blocks.sync-cron:0 5 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    public void sync() {
+        lock.lock();
+        try {
+            syncLocked(LocalDate.now());
+        } catch (Exception e) {
+            System.err.println("Warning: room block sync failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take AVAILABLE rooms blocked today out of order, and hand back the rooms of blocks that have
+     * ended. Occupied rooms are left to their check-out; housekeeping closes them once cleaned.
+     */
+    private void syncLocked(LocalDate today) {
+        Set<Long> blockedToday = new HashSet<>();
+        for (RoomBlock block : roomBlockRepository.findOverlapping(today, today)) {
+            Room room = block.getRoom();
+            if (blockedToday.add(room.getId()) && room.getStatus() == Room.RoomStatus.AVAILABLE) {
+                roomService.updateRoomStatus(room.getId(), Room.RoomStatus.MAINTENANCE);
+            }
+        }
+
+        List<RoomBlock> ended = roomBlockRepository.findUnreleasedEndedBefore(today);
+        Set<Long> handedBack = new HashSet<>();
+        for (RoomBlock block : ended) {
+            Room room = block.getRoom();
+            if (!blockedToday.contains(room.getId()) && handedBack.add(room.getId())
+                    && room.getStatus() == Room.RoomStatus.MAINTENANCE) {
+                roomService.updateRoomStatus(room.getId(), Room.RoomStatus.AVAILABLE);
+            }
+            block.setReleased(true);
+        }
+        if (!ended.isEmpty()) {
+            roomBlockRepository.saveAll(ended);
+        }
+    }
+}
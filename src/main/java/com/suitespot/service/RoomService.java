@@ -13,6 +13,12 @@ public class RoomService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private StatusEventService statusEventService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public Room createRoom(Room room) {
         // Set default values if not provided
         if (room.getActive() == null) {
@@ -21,7 +27,9 @@ public class RoomService {
         if (room.getStatus() == null) {
             room.setStatus(Room.RoomStatus.AVAILABLE);
         }
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        dataVersionService.bump(DataVersionService.ROOMS);
+        return saved;
     }
 
     public Optional<Room> getRoomById(Long id) {
@@ -49,6 +57,7 @@ public class RoomService {
 
     public Room updateRoom(Long id, Room roomDetails) {
         return roomRepository.findById(id).map(room -> {
+            Room.RoomStatus previousStatus = room.getStatus();
             room.setRoomNumber(roomDetails.getRoomNumber());
             room.setType(roomDetails.getType());
             room.setStatus(roomDetails.getStatus());
@@ -57,7 +66,10 @@ public class RoomService {
             room.setAmenities(roomDetails.getAmenities());
             room.setDescription(roomDetails.getDescription());
             room.setFloor(roomDetails.getFloor());
-            return roomRepository.save(room);
+            Room saved = roomRepository.save(room);
+            dataVersionService.bump(DataVersionService.ROOMS);
+            statusEventService.publish(StatusEventService.ROOM, saved.getId(), saved.getStatus(), previousStatus);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Room not found"));
     }
 
@@ -66,6 +78,8 @@ public class RoomService {
      * Valid transitions:
      * - AVAILABLE -> OCCUPIED (check-in)
      * - OCCUPIED -> AVAILABLE (check-out)
+     * - OCCUPIED -> CLEANING (check-out with housekeeping)
+     * - CLEANING -> AVAILABLE (room ready) or MAINTENANCE
      * - AVAILABLE -> MAINTENANCE
      * - MAINTENANCE -> AVAILABLE
      * - AVAILABLE -> RESERVED
@@ -92,7 +106,10 @@ public class RoomService {
             ));
             
             room.setStatus(newStatus);
-            return roomRepository.save(room);
+            Room saved = roomRepository.save(room);
+            dataVersionService.bump(DataVersionService.ROOMS);
+            statusEventService.publish(StatusEventService.ROOM, saved.getId(), newStatus, currentStatus);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Room not found"));
     }
     
@@ -110,9 +127,12 @@ public class RoomService {
             case AVAILABLE -> to == Room.RoomStatus.OCCUPIED || 
                             to == Room.RoomStatus.MAINTENANCE || 
                             to == Room.RoomStatus.RESERVED;
-            case OCCUPIED -> to == Room.RoomStatus.AVAILABLE || to == Room.RoomStatus.MAINTENANCE;
+            case OCCUPIED -> to == Room.RoomStatus.AVAILABLE ||
+                            to == Room.RoomStatus.MAINTENANCE ||
+                            to == Room.RoomStatus.CLEANING;
             case MAINTENANCE -> to == Room.RoomStatus.AVAILABLE;
             case RESERVED -> to == Room.RoomStatus.AVAILABLE || to == Room.RoomStatus.OCCUPIED;
+            case CLEANING -> to == Room.RoomStatus.AVAILABLE || to == Room.RoomStatus.MAINTENANCE;
         };
     }
     
@@ -121,12 +141,17 @@ public class RoomService {
      */
     public Room forceUpdateRoomStatus(Long id, Room.RoomStatus newStatus) {
         return roomRepository.findById(id).map(room -> {
+            Room.RoomStatus previousStatus = room.getStatus();
             room.setStatus(newStatus);
-            return roomRepository.save(room);
+            Room saved = roomRepository.save(room);
+            dataVersionService.bump(DataVersionService.ROOMS);
+            statusEventService.publish(StatusEventService.ROOM, saved.getId(), newStatus, previousStatus);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Room not found"));
     }
 
     public void deleteRoom(Long id) {
         roomRepository.deleteById(id);
+        dataVersionService.bump(DataVersionService.ROOMS);
     }
 }
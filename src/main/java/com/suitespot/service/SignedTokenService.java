@@ -0,0 +1,140 @@
+package com.suitespot.service;
+
+import com.suitespot.config.AuthProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Issues and validates the HMAC-SHA256 signed tokens used in stateless mode.
+ * A token is {@code v1.<kid>.<username>.<role>.<issuedAt>.<expiresAt>.<signature>} with the
+ * username base64url encoded. Validation only needs the key ring held in memory, never the database.
+ */
+@Service
+public class SignedTokenService {
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Autowired
+    private AuthProperties authProperties;
+
+    /**
+     * Key id -> key; the first entry signs new tokens
+     */
+    private final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+
+    private String signingKeyId;
+
+    public record Token(String username, String role, Instant issuedAt, Instant expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        AuthProperties.Stateless stateless = authProperties.getStateless();
+        if (!stateless.isEnabled()) {
+            return;
+        }
+        for (AuthProperties.Key key : stateless.getKeys()) {
+            if (key.getId() == null || key.getId().isBlank() || key.getId().contains(".")) {
+                throw new IllegalStateException("auth.stateless.keys: key id must be non-empty and must not contain '.'");
+            }
+            byte[] secret = Base64.getDecoder().decode(key.getSecret());
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("auth.stateless.keys: secret for key " + key.getId()
+                    + " must be at least " + MIN_SECRET_BYTES + " bytes");
+            }
+            keys.put(key.getId(), new SecretKeySpec(secret, ALGORITHM));
+        }
+        if (keys.isEmpty()) {
+            // Tokens from this key are only valid on this node and until restart
+            byte[] secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+            keys.put("local", new SecretKeySpec(secret, ALGORITHM));
+            System.err.println("Warning: auth.stateless.keys is not set; using a random per-process key. "
+                + "Configure shared keys before running more than one node.");
+        }
+        signingKeyId = keys.keySet().iterator().next();
+    }
+
+    public String issue(String username, String role) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusSeconds(authProperties.getStateless().getTtlSeconds());
+        String payload = String.join(".", VERSION, signingKeyId,
+            Base64.getUrlEncoder().withoutPadding().encodeToString(username.getBytes(StandardCharsets.UTF_8)),
+            role, String.valueOf(now.getEpochSecond()), String.valueOf(expiresAt.getEpochSecond()));
+        return payload + "." + sign(keys.get(signingKeyId), payload);
+    }
+
+    /**
+     * Parse and verify a token; empty if it is malformed, signed with an unknown key,
+     * tampered with or expired
+     */
+    public Optional<Token> validate(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split("\\.");
+        if (parts.length != 7 || !VERSION.equals(parts[0])) {
+            return Optional.empty();
+        }
+        SecretKeySpec key = keys.get(parts[1]);
+        if (key == null) {
+            return Optional.empty();
+        }
+        String payload = value.substring(0, value.lastIndexOf('.'));
+        byte[] expected = sign(key, payload).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, parts[6].getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        try {
+            String username = new String(Base64.getUrlDecoder().decode(parts[2]), StandardCharsets.UTF_8);
+            Instant issuedAt = Instant.ofEpochSecond(Long.parseLong(parts[4]));
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[5]));
+            if (!expiresAt.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new Token(username, parts[3], issuedAt, expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tokens past half their lifetime, or signed with a key that is no longer the signing key,
+     * are re-issued so rotation and sliding expiry happen without a new login
+     */
+    public boolean needsRefresh(Token token, String keyId) {
+        Instant halfLife = token.issuedAt().plusSeconds(authProperties.getStateless().getTtlSeconds() / 2);
+        return Instant.now().isAfter(halfLife) || !signingKeyId.equals(keyId);
+    }
+
+    public String keyIdOf(String value) {
+        String[] parts = value.split("\\.", 3);
+        return parts.length > 1 ? parts[1] : null;
+    }
+
+    private String sign(SecretKeySpec key, String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.suitespot.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes taxi, room, booking and housekeeping task status changes to every open page over Server-Sent Events.
+ * Each change is one small delta; pages patch their badges and counters instead of reloading.
+ * Every subscriber has its own outbound queue drained on eventExecutor, so a slow client
+ * delays only itself and still receives its events in order. Recent events are kept so
+ * a reconnecting EventSource (Last-Event-ID) catches up; when it has fallen too far behind it
+ * is told to reload.
+ */
+@Service
+public class StatusEventService {
+
+    public static final String TAXI = "taxi";
+    public static final String ROOM = "room";
+    public static final String BOOKING = "booking";
+    public static final String HOUSEKEEPING = "housekeeping";
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int REPLAY_BUFFER_SIZE = 1000;
+    private static final int MAX_PENDING_PER_SUBSCRIBER = 256;
+
+    @Autowired
+    @Qualifier("eventExecutor")
+    private Executor eventExecutor;
+
+    public record StatusEvent(long id, String entity, Long entityId, String status, String previousStatus,
+                              LocalDateTime at) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_PER_SUBSCRIBER) {
+                // Too far behind; the browser reconnects and replays from its Last-Event-ID
+                close();
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                eventExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have been queued after the last poll but before draining was cleared
+            if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                eventExecutor.execute(this::drain);
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Most recent events, oldest first. Guarded by itself.
+     */
+    private final Deque<StatusEvent> recent = new ArrayDeque<>();
+
+    /**
+     * Open a stream for one page. Events after lastEventId are replayed first.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Replay and registration happen under the same lock as publish, so no event is lost or reordered
+        synchronized (recent) {
+            subscribers.add(subscriber);
+            if (lastEventId != null) {
+                StatusEvent oldest = recent.peekFirst();
+                long latest = sequence.get();
+                // Ids beyond latest come from before a restart; anything older than the buffer is lost
+                boolean resync = lastEventId > latest
+                    || (lastEventId < latest && (oldest == null || oldest.id() > lastEventId + 1));
+                if (resync) {
+                    subscriber.offer(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    for (StatusEvent event : recent) {
+                        if (event.id() > lastEventId) {
+                            subscriber.offer(toSse(event));
+                        }
+                    }
+                }
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Inside a transaction the event is sent once it has committed and dropped if it rolls back,
+     * so pages never show a status that was not saved.
+     */
+    public void publish(String entity, Long entityId, Enum<?> status, Enum<?> previousStatus) {
+        if (entityId == null || status == null || status == previousStatus) {
+            return;
+        }
+        LocalDateTime at = LocalDateTime.now();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(entity, entityId, status, previousStatus, at);
+                }
+            });
+        } else {
+            send(entity, entityId, status, previousStatus, at);
+        }
+    }
+
+    private void send(String entity, Long entityId, Enum<?> status, Enum<?> previousStatus, LocalDateTime at) {
+        synchronized (recent) {
+            StatusEvent event = new StatusEvent(sequence.incrementAndGet(), entity, entityId, status.name(),
+                previousStatus != null ? previousStatus.name() : null, at);
+            recent.addLast(event);
+            if (recent.size() > REPLAY_BUFFER_SIZE) {
+                recent.removeFirst();
+            }
+            // offer() only enqueues, so fan-out under the lock is cheap and keeps events in order
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(toSse(event));
+            }
+        }
+    }
+
+    /**
+     * Comment line every 25s so proxies and load balancers keep idle streams open
+     */
+    @Scheduled(fixedDelay = 25000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private SseEmitter.SseEventBuilder toSse(StatusEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name("status")
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+}
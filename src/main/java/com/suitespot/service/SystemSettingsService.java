@@ -12,17 +12,23 @@ public class SystemSettingsService {
     @Autowired
     private SystemSettingsRepository systemSettingsRepository;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public SystemSettings getSettings() {
         return systemSettingsRepository.findAll().stream().findFirst()
                 .orElseGet(() -> systemSettingsRepository.save(new SystemSettings()));
     }
 
     public SystemSettings updateSettings(SystemSettings settings) {
-        return systemSettingsRepository.save(settings);
+        SystemSettings saved = systemSettingsRepository.save(settings);
+        dataVersionService.bump(DataVersionService.SETTINGS);
+        return saved;
     }
 
     public void resetToDefaults() {
         systemSettingsRepository.deleteAll();
         systemSettingsRepository.save(new SystemSettings());
+        dataVersionService.bump(DataVersionService.SETTINGS);
     }
 }
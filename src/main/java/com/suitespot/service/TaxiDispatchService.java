@@ -0,0 +1,382 @@
+package com.suitespot.service;
+
+import com.suitespot.config.TaxiDispatchProperties;
+import com.suitespot.entity.TaxiDriver;
+import com.suitespot.entity.TaxiRequest;
+import com.suitespot.repository.TaxiDriverRepository;
+import com.suitespot.repository.TaxiRequestRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory taxi dispatch engine. PENDING requests wait in a priority queue ordered by requested
+ * time, with VIP requests moved forward by taxi.dispatch.vip-priority-minutes. A scheduled pass
+ * hands the head of the queue to the free driver with the shortest ETA to the pickup, taken from
+ * the DistanceTable. Requests confirmed manually, cancelled or deleted are dropped from the queue
+ * lazily, so removal is O(1) regardless of queue length.
+ */
+@Service
+public class TaxiDispatchService {
+
+    @Autowired
+    private TaxiRequestRepository taxiRequestRepository;
+
+    @Autowired
+    private TaxiDriverRepository taxiDriverRepository;
+
+    @Autowired
+    private DistanceTable distanceTable;
+
+    @Autowired
+    private TaxiDispatchProperties taxiDispatchProperties;
+
+    @Autowired
+    private StatusEventService statusEventService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    private record QueuedRequest(Long requestId, LocalDateTime priorityTime, long sequence, String pickupLocation) {
+    }
+
+    private static final Comparator<QueuedRequest> PRIORITY = Comparator
+            .comparing(QueuedRequest::priorityTime)
+            .thenComparingLong(QueuedRequest::sequence);
+
+    private final PriorityBlockingQueue<QueuedRequest> queue = new PriorityBlockingQueue<>(64, PRIORITY);
+
+    /**
+     * Ids still waiting for a driver; queue entries not in here are skipped when polled
+     */
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Active drivers, and drivers taken off shift who are still on a trip, by id. Guarded by lock.
+     */
+    private final Map<Long, DriverStatus> drivers = new LinkedHashMap<>();
+
+    /**
+     * A ReentrantLock rather than synchronized: dispatch and release hold it across JDBC calls,
+     * and a virtual thread blocking inside synchronized would pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public static class DriverStatus {
+        private TaxiDriver driver;
+        private Long assignedRequestId;
+
+        DriverStatus(TaxiDriver driver) {
+            this.driver = driver;
+        }
+
+        public TaxiDriver getDriver() {
+            return driver;
+        }
+
+        public Long getAssignedRequestId() {
+            return assignedRequestId;
+        }
+
+        public boolean isAvailable() {
+            return assignedRequestId == null && Boolean.TRUE.equals(driver.getActive());
+        }
+    }
+
+    /**
+     * Rebuild the pool and the queue from the database
+     */
+    @PostConstruct
+    public void init() {
+        lock.lock();
+        try {
+            for (TaxiDriver driver : taxiDriverRepository.findByActiveTrue()) {
+                drivers.put(driver.getId(), new DriverStatus(driver));
+            }
+            List<TaxiRequest> inProgress = taxiRequestRepository.findByStatusIn(
+                List.of(TaxiRequest.RequestStatus.CONFIRMED, TaxiRequest.RequestStatus.ON_THE_WAY));
+            for (TaxiRequest request : inProgress) {
+                if (request.getDriver() != null && drivers.containsKey(request.getDriver().getId())) {
+                    drivers.get(request.getDriver().getId()).assignedRequestId = request.getId();
+                }
+            }
+            taxiRequestRepository.findByStatus(TaxiRequest.RequestStatus.PENDING).forEach(this::enqueue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void enqueue(TaxiRequest request) {
+        LocalDateTime priorityTime = request.getRequestedTime() != null ? request.getRequestedTime() : LocalDateTime.now();
+        if (isVip(request)) {
+            priorityTime = priorityTime.minusMinutes(taxiDispatchProperties.getVipPriorityMinutes());
+        }
+        queued.add(request.getId());
+        queue.add(new QueuedRequest(request.getId(), priorityTime, sequence.incrementAndGet(), request.getPickupLocation()));
+    }
+
+    /**
+     * Take a request out of the queue, e.g. after a manual confirmation
+     */
+    public void withdraw(Long requestId) {
+        queued.remove(requestId);
+    }
+
+    public boolean isVip(TaxiRequest request) {
+        return request.getBooking() != null && request.getBooking().getRoom() != null
+            && request.getBooking().getRoom().getType() != null
+            && taxiDispatchProperties.getVipRoomTypes().contains(request.getBooking().getRoom().getType().name());
+    }
+
+    @Scheduled(fixedDelayString = "${taxi.dispatch.interval-ms:5000}", initialDelay = 10000)
+    public void dispatchPending() {
+        if (taxiDispatchProperties.isEnabled()) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Assign queued requests in priority order until the queue or the free drivers run out
+     * @return number of requests assigned
+     */
+    public int dispatch() {
+        lock.lock();
+        try {
+            int assigned = 0;
+            QueuedRequest head;
+            while ((head = queue.peek()) != null) {
+                if (!queued.contains(head.requestId())) {
+                    queue.poll();
+                    continue;
+                }
+                DriverStatus driver = nearestFreeDriver(head.pickupLocation());
+                if (driver == null) {
+                    break;
+                }
+                queue.poll();
+                queued.remove(head.requestId());
+                if (assign(head.requestId(), driver)) {
+                    assigned++;
+                }
+            }
+            return assigned;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DriverStatus nearestFreeDriver(String pickupLocation) {
+        DriverStatus best = null;
+        long bestMinutes = Long.MAX_VALUE;
+        for (DriverStatus status : drivers.values()) {
+            if (!status.isAvailable()) {
+                continue;
+            }
+            long minutes = travelMinutes(status.driver.getCurrentLocation(), pickupLocation);
+            if (minutes < bestMinutes) {
+                best = status;
+                bestMinutes = minutes;
+            }
+        }
+        return best;
+    }
+
+    private boolean assign(Long requestId, DriverStatus status) {
+        TaxiRequest request = taxiRequestRepository.findById(requestId).orElse(null);
+        if (request == null || request.getStatus() != TaxiRequest.RequestStatus.PENDING) {
+            return false;
+        }
+        TaxiDriver driver = status.driver;
+        request.setStatus(TaxiRequest.RequestStatus.CONFIRMED);
+        request.setDriver(driver);
+        request.setDriverName(driver.getName());
+        request.setVehicleNumber(driver.getVehicleNumber());
+        request.setPhoneNumber(driver.getPhoneNumber());
+        request.setEstimatedArrivalTime(estimateArrival(driver.getCurrentLocation(), request.getPickupLocation()));
+        if (request.getEstimatedCost() == null) {
+            request.setEstimatedCost(estimateFare(request.getPickupLocation(), request.getDestination()));
+        }
+        taxiRequestRepository.save(request);
+        dataVersionService.bump(DataVersionService.TAXI);
+        status.assignedRequestId = requestId;
+        statusEventService.publish(StatusEventService.TAXI, requestId,
+            TaxiRequest.RequestStatus.CONFIRMED, TaxiRequest.RequestStatus.PENDING);
+        return true;
+    }
+
+    /**
+     * A request left CONFIRMED/ON_THE_WAY or was deleted: free its driver. After a completed trip
+     * the driver is at the destination, which is where the next ETA is computed from.
+     */
+    public void release(TaxiRequest request) {
+        lock.lock();
+        try {
+            withdraw(request.getId());
+            Iterator<DriverStatus> statuses = drivers.values().iterator();
+            while (statuses.hasNext()) {
+                DriverStatus status = statuses.next();
+                if (request.getId().equals(status.assignedRequestId)) {
+                    status.assignedRequestId = null;
+                    if (request.getStatus() == TaxiRequest.RequestStatus.COMPLETED && request.getDestination() != null) {
+                        status.driver.setCurrentLocation(request.getDestination());
+                        status.driver = taxiDriverRepository.save(status.driver);
+                        dataVersionService.bump(DataVersionService.TAXI);
+                    }
+                    if (!Boolean.TRUE.equals(status.driver.getActive())) {
+                        // Went off shift during the trip
+                        statuses.remove();
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LocalDateTime estimateArrival(String from, String pickupLocation) {
+        return LocalDateTime.now().plusMinutes(
+            taxiDispatchProperties.getPickupLeadMinutes() + travelMinutes(from, pickupLocation));
+    }
+
+    /**
+     * ETA for a driver confirmed by hand, who is assumed to be waiting at the base location
+     */
+    public LocalDateTime estimateArrival(TaxiRequest request) {
+        return estimateArrival(taxiDispatchProperties.getBaseLocation(), request.getPickupLocation());
+    }
+
+    /**
+     * Fare estimate, or null when the route is not in the distance table
+     */
+    public Double estimateFare(String from, String to) {
+        return distanceTable.route(from, to)
+                .map(route -> Math.round((taxiDispatchProperties.getBaseFare()
+                    + taxiDispatchProperties.getRatePerKm() * route.km()) * 100) / 100.0)
+                .orElse(null);
+    }
+
+    private long travelMinutes(String from, String to) {
+        return distanceTable.route(from, to)
+                .map(DistanceTable.Route::minutes)
+                .orElse(taxiDispatchProperties.getDefaultTravelMinutes());
+    }
+
+    // Driver pool
+
+    public List<TaxiDriver> getAllDrivers() {
+        return taxiDriverRepository.findAll();
+    }
+
+    public List<DriverStatus> getDriverStatuses() {
+        lock.lock();
+        try {
+            return new ArrayList<>(drivers.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public TaxiDriver addDriver(TaxiDriver driver) {
+        lock.lock();
+        try {
+            if (driver.getCurrentLocation() == null || driver.getCurrentLocation().isBlank()) {
+                driver.setCurrentLocation(taxiDispatchProperties.getBaseLocation());
+            }
+            driver.setActive(true);
+            TaxiDriver saved = taxiDriverRepository.save(driver);
+            dataVersionService.bump(DataVersionService.TAXI);
+            drivers.put(saved.getId(), new DriverStatus(saved));
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take a driver off or back on shift. A driver going off shift finishes the current trip
+     * but is not offered new requests: the entry stays, marked inactive, until the trip is
+     * released. A driver coming back on shift picks up the trip still open in the database, if
+     * any, so they are not offered a second request.
+     */
+    public TaxiDriver setDriverActive(Long driverId, boolean active) {
+        lock.lock();
+        try {
+            TaxiDriver driver = taxiDriverRepository.findById(driverId)
+                    .orElseThrow(() -> new RuntimeException("Driver not found"));
+            driver.setActive(active);
+            TaxiDriver saved = taxiDriverRepository.save(driver);
+            dataVersionService.bump(DataVersionService.TAXI);
+            DriverStatus status = drivers.get(saved.getId());
+            if (status != null) {
+                status.driver = saved;
+                if (!active && status.assignedRequestId == null) {
+                    drivers.remove(saved.getId());
+                }
+            } else if (active) {
+                status = new DriverStatus(saved);
+                status.assignedRequestId = openRequestId(saved.getId());
+                drivers.put(saved.getId(), status);
+            }
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Long openRequestId(Long driverId) {
+        return taxiRequestRepository.findFirstByDriverIdAndStatusIn(driverId,
+                    List.of(TaxiRequest.RequestStatus.CONFIRMED, TaxiRequest.RequestStatus.ON_THE_WAY))
+                .map(TaxiRequest::getId)
+                .orElse(null);
+    }
+
+    // Queue state for the taxi pages
+
+    public int getQueuedCount() {
+        return queued.size();
+    }
+
+    public long getAvailableDriverCount() {
+        lock.lock();
+        try {
+            return drivers.values().stream().filter(DriverStatus::isAvailable).count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 1-based position of a request in the dispatch queue, or null if it is not queued
+     */
+    public Integer getQueuePosition(Long requestId) {
+        if (!queued.contains(requestId)) {
+            return null;
+        }
+        List<QueuedRequest> ordered = queue.stream()
+                .filter(entry -> queued.contains(entry.requestId()))
+                .sorted(PRIORITY)
+                .toList();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).requestId().equals(requestId)) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+}
@@ -14,10 +14,23 @@ public class TaxiService {
     @Autowired
     private TaxiRequestRepository taxiRequestRepository;
 
+    @Autowired
+    private TaxiDispatchService taxiDispatchService;
+
+    @Autowired
+    private StatusEventService statusEventService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public TaxiRequest createTaxiRequest(TaxiRequest taxiRequest) {
         taxiRequest.setStatus(TaxiRequest.RequestStatus.PENDING);
         taxiRequest.setRequestedTime(LocalDateTime.now());
-        return taxiRequestRepository.save(taxiRequest);
+        TaxiRequest saved = taxiRequestRepository.save(taxiRequest);
+        dataVersionService.bump(DataVersionService.TAXI);
+        statusEventService.publish(StatusEventService.TAXI, saved.getId(), saved.getStatus(), null);
+        taxiDispatchService.enqueue(saved);
+        return saved;
     }
 
     public Optional<TaxiRequest> getTaxiRequestById(Long id) {
@@ -28,6 +41,10 @@ public class TaxiService {
         return taxiRequestRepository.findAll();
     }
 
+    public List<TaxiRequest> getTaxiRequestsByStatus(TaxiRequest.RequestStatus status) {
+        return taxiRequestRepository.findByStatus(status);
+    }
+
     public List<TaxiRequest> getPendingRequests() {
         return taxiRequestRepository.findByStatus(TaxiRequest.RequestStatus.PENDING);
     }
@@ -38,23 +55,46 @@ public class TaxiService {
 
     public TaxiRequest confirmTaxiRequest(Long id, String driverName, String vehicleNumber, String phoneNumber, Double estimatedCost) {
         return taxiRequestRepository.findById(id).map(request -> {
+            TaxiRequest.RequestStatus previousStatus = request.getStatus();
             request.setStatus(TaxiRequest.RequestStatus.CONFIRMED);
             request.setDriverName(driverName);
             request.setVehicleNumber(vehicleNumber);
             request.setPhoneNumber(phoneNumber);
             request.setEstimatedCost(estimatedCost);
-            request.setEstimatedArrivalTime(LocalDateTime.now().plusMinutes(15));
-            return taxiRequestRepository.save(request);
+            request.setEstimatedArrivalTime(taxiDispatchService.estimateArrival(request));
+            taxiDispatchService.withdraw(id);
+            TaxiRequest saved = taxiRequestRepository.save(request);
+            dataVersionService.bump(DataVersionService.TAXI);
+            statusEventService.publish(StatusEventService.TAXI, saved.getId(), saved.getStatus(), previousStatus);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Taxi request not found"));
     }
 
+    /**
+     * Move a request on. A request leaves the dispatch queue once it is no longer PENDING; it is never
+     * put back, as its driver and ETA would be stale (cancel it and request a new taxi instead).
+     * @throws IllegalArgumentException if status is PENDING
+     */
     public TaxiRequest updateStatus(Long id, TaxiRequest.RequestStatus status) {
+        if (status == TaxiRequest.RequestStatus.PENDING) {
+            throw new IllegalArgumentException("A taxi request cannot be set back to PENDING");
+        }
         return taxiRequestRepository.findById(id).map(request -> {
+            TaxiRequest.RequestStatus previousStatus = request.getStatus();
+            if (previousStatus == TaxiRequest.RequestStatus.PENDING) {
+                taxiDispatchService.withdraw(id);
+            }
             request.setStatus(status);
             if (status == TaxiRequest.RequestStatus.COMPLETED) {
                 request.setCompletedAt(LocalDateTime.now());
             }
-            return taxiRequestRepository.save(request);
+            TaxiRequest saved = taxiRequestRepository.save(request);
+            dataVersionService.bump(DataVersionService.TAXI);
+            statusEventService.publish(StatusEventService.TAXI, saved.getId(), status, previousStatus);
+            if (status == TaxiRequest.RequestStatus.COMPLETED || status == TaxiRequest.RequestStatus.CANCELLED) {
+                taxiDispatchService.release(saved);
+            }
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Taxi request not found"));
     }
 
@@ -63,6 +103,8 @@ public class TaxiService {
     }
 
     public void deleteTaxiRequest(Long id) {
+        taxiRequestRepository.findById(id).ifPresent(request -> taxiDispatchService.release(request));
         taxiRequestRepository.deleteById(id);
+        dataVersionService.bump(DataVersionService.TAXI);
     }
 }
@@ -0,0 +1,54 @@
+package com.suitespot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.suitespot.config.AuthProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL'd cache of UserDetails for DaoAuthenticationProvider, so a burst of logins
+ * does not query the users table for every attempt. Entries are evicted by UserService
+ * whenever a user's role, status or password changes.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+
+    @Autowired
+    private AuthProperties authProperties;
+
+    private Cache<String, UserDetails> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getCache().getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(authProperties.getCache().getTtlSeconds()))
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = cache.getIfPresent(username);
+        // Hand out a copy: ProviderManager erases credentials on the principal after login
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (authProperties.getCache().isEnabled()) {
+            cache.put(user.getUsername(), User.withUserDetails(user).build());
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+}
@@ -17,6 +17,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private RolePermissionMatrix rolePermissionMatrix;
+
     public User createUser(String username, String email, String fullName, String plainPassword, User.Role role) {
         User user = User.builder()
                 .username(username)
@@ -26,7 +32,9 @@ public class UserService {
                 .role(role)
                 .active(true)
                 .build();
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        rolePermissionMatrix.refreshUser(saved);
+        return saved;
     }
 
     public Optional<User> getUserByUsername(String username) {
@@ -47,18 +55,27 @@ public class UserService {
             user.setFullName(userDetails.getFullName());
             user.setRole(userDetails.getRole());
             user.setActive(userDetails.getActive());
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            userDetailsCache.removeUserFromCache(saved.getUsername());
+            rolePermissionMatrix.refreshUser(saved);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("User not found"));
     }
 
     public void deleteUser(Long id) {
+        userRepository.findById(id).ifPresent(user -> {
+            userDetailsCache.removeUserFromCache(user.getUsername());
+            rolePermissionMatrix.removeUser(user.getUsername());
+        });
         userRepository.deleteById(id);
     }
 
     public User changePassword(Long id, String newPassword) {
         return userRepository.findById(id).map(user -> {
             user.setPassword(passwordEncoder.encode(newPassword));
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            userDetailsCache.removeUserFromCache(saved.getUsername());
+            return saved;
         }).orElseThrow(() -> new RuntimeException("User not found"));
     }
 
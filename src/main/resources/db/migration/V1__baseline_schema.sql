@@ -0,0 +1,102 @@
+-- ============================================
+-- SuiteSpot Hotel Management System
+-- V1: Baseline schema (PostgreSQL)
+-- Mirrors the JPA entity mappings so that Hibernate can run with ddl-auto=validate
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    role VARCHAR(255) NOT NULL,
+    active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE IF NOT EXISTS guests (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    phone VARCHAR(255) NOT NULL,
+    id_number VARCHAR(255) NOT NULL,
+    id_type VARCHAR(255),
+    date_of_birth DATE,
+    address VARCHAR(255),
+    city VARCHAR(255),
+    country VARCHAR(255),
+    preferences VARCHAR(255),
+    active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_number VARCHAR(255) NOT NULL UNIQUE,
+    type VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    price_per_night NUMERIC(38, 2) NOT NULL,
+    capacity INTEGER,
+    amenities VARCHAR(255),
+    description VARCHAR(255),
+    floor INTEGER,
+    active BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    guest_id BIGINT NOT NULL REFERENCES guests(id),
+    room_id BIGINT NOT NULL REFERENCES rooms(id),
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    total_amount NUMERIC(38, 2),
+    discount NUMERIC(38, 2),
+    special_requests VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS bills (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id BIGINT NOT NULL UNIQUE REFERENCES bookings(id),
+    room_charges NUMERIC(38, 2),
+    service_charges NUMERIC(38, 2),
+    taxes NUMERIC(38, 2),
+    discount NUMERIC(38, 2),
+    total_amount NUMERIC(38, 2),
+    payment_status VARCHAR(255),
+    generated_at TIMESTAMP(6),
+    paid_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS taxi_requests (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id BIGINT NOT NULL REFERENCES bookings(id),
+    pickup_location VARCHAR(255) NOT NULL,
+    destination VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    requested_time TIMESTAMP(6),
+    estimated_arrival_time TIMESTAMP(6),
+    driver_name VARCHAR(255),
+    vehicle_number VARCHAR(255),
+    phone_number VARCHAR(255),
+    estimated_cost DOUBLE PRECISION,
+    notes VARCHAR(255),
+    created_at TIMESTAMP(6),
+    completed_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS system_settings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_name VARCHAR(255),
+    hotel_email VARCHAR(255),
+    hotel_phone VARCHAR(255),
+    hotel_address VARCHAR(255),
+    tax_rate NUMERIC(38, 2),
+    service_charge_rate NUMERIC(38, 2),
+    currency VARCHAR(255),
+    checkin_time TIME,
+    checkout_time TIME,
+    cancellation_policy TEXT
+);
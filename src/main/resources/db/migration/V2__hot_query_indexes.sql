@@ -0,0 +1,35 @@
+-- ============================================
+-- V2: Indexes for the hot repository query paths
+-- Keep in sync with SchemaIndexVerifier.EXPECTED_INDEXES
+-- ============================================
+
+-- BookingRepository.findByStatus / findByStatus(es)WithRelations
+CREATE INDEX IF NOT EXISTS idx_bookings_status ON bookings (status);
+
+-- BookingRepository.findByGuestId (guest deletion guard, guest history)
+CREATE INDEX IF NOT EXISTS idx_bookings_guest_id ON bookings (guest_id);
+
+-- BookingRepository.findByCheckInDateBetween (date range reports, arrivals)
+CREATE INDEX IF NOT EXISTS idx_bookings_check_in_date ON bookings (check_in_date);
+
+-- Availability overlap checks per room (room_id + stay interval)
+CREATE INDEX IF NOT EXISTS idx_bookings_room_dates ON bookings (room_id, check_in_date, check_out_date);
+
+-- BookingRepository.findAllWithRelations (ORDER BY created_at DESC)
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at ON bookings (created_at);
+
+-- TaxiRequestRepository.findByStatus
+CREATE INDEX IF NOT EXISTS idx_taxi_requests_status ON taxi_requests (status);
+
+-- TaxiRequestRepository.findByBookingId
+CREATE INDEX IF NOT EXISTS idx_taxi_requests_booking_id ON taxi_requests (booking_id);
+
+-- BillRepository.findByBookingId (also enforces the one-to-one mapping)
+CREATE UNIQUE INDEX IF NOT EXISTS idx_bills_booking_id ON bills (booking_id);
+
+-- RoomRepository.findByStatus / findByType
+CREATE INDEX IF NOT EXISTS idx_rooms_status ON rooms (status);
+CREATE INDEX IF NOT EXISTS idx_rooms_type ON rooms (type);
+
+-- GuestRepository.findByIdNumber
+CREATE INDEX IF NOT EXISTS idx_guests_id_number ON guests (id_number);
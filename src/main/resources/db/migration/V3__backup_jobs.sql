@@ -0,0 +1,21 @@
+-- ============================================
+-- V3: Persisted state of backup jobs (manual and scheduled)
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS backup_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    backup_type VARCHAR(255) NOT NULL,
+    backup_location VARCHAR(255) NOT NULL,
+    trigger_type VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    backup_path VARCHAR(255),
+    bytes_written BIGINT,
+    expected_bytes BIGINT,
+    error_message TEXT,
+    created_at TIMESTAMP(6),
+    started_at TIMESTAMP(6),
+    finished_at TIMESTAMP(6)
+);
+
+-- BackupJobRepository.findFirstByBackupTypeAndStatusOrderByFinishedAtDesc / findByStatusIn
+CREATE INDEX IF NOT EXISTS idx_backup_jobs_status ON backup_jobs (status, backup_type);
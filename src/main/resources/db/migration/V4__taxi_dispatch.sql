@@ -0,0 +1,18 @@
+-- ============================================
+-- V4: Driver pool for the taxi dispatch engine
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS taxi_drivers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    vehicle_number VARCHAR(255) NOT NULL UNIQUE,
+    phone_number VARCHAR(255),
+    current_location VARCHAR(255) NOT NULL,
+    active BOOLEAN,
+    created_at TIMESTAMP(6)
+);
+
+ALTER TABLE taxi_requests ADD COLUMN IF NOT EXISTS driver_id BIGINT REFERENCES taxi_drivers(id);
+
+-- TaxiRequestRepository.findByStatusIn (drivers busy at startup) joins back to the driver
+CREATE INDEX IF NOT EXISTS idx_taxi_requests_driver_id ON taxi_requests (driver_id);
@@ -0,0 +1,20 @@
+-- ============================================
+-- V5: Season, weekday and event rate rules per room type
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS rate_rules (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    room_type VARCHAR(255) NOT NULL,
+    kind VARCHAR(255) NOT NULL,
+    start_date DATE,
+    end_date DATE,
+    days_of_week INTEGER,
+    adjustment VARCHAR(255) NOT NULL,
+    adjustment_value NUMERIC(38, 2) NOT NULL,
+    active BOOLEAN,
+    created_at TIMESTAMP(6)
+);
+
+-- RateCalendarService reloads the active rules of one room type after each change
+CREATE INDEX IF NOT EXISTS idx_rate_rules_room_type ON rate_rules (room_type);
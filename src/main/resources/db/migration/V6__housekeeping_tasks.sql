@@ -0,0 +1,23 @@
+-- ============================================
+-- V6: Cleaning tasks generated from departures and stayovers
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS housekeeping_tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES rooms(id) ON DELETE CASCADE,
+    booking_id BIGINT REFERENCES bookings(id) ON DELETE SET NULL,
+    task_date DATE NOT NULL,
+    kind VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    attendant VARCHAR(255),
+    sequence INTEGER,
+    estimated_minutes INTEGER,
+    created_at TIMESTAMP(6),
+    started_at TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    -- One cleaning per room and day: a departure clean also covers the room's stayover service
+    CONSTRAINT uk_housekeeping_tasks_room_date UNIQUE (room_id, task_date)
+);
+
+-- HousekeepingService loads the open tasks of one day on every re-plan
+CREATE INDEX IF NOT EXISTS idx_housekeeping_tasks_date_status ON housekeeping_tasks (task_date, status);
@@ -0,0 +1,22 @@
+-- ============================================
+-- V7: Dated out-of-order blocks per room
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS room_blocks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES rooms(id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    reason VARCHAR(255),
+    -- Set once the room has been handed back after the block
+    released BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP(6)
+);
+
+-- Per-room overlap checks, mirroring idx_bookings_room_dates
+CREATE INDEX IF NOT EXISTS idx_room_blocks_room_dates ON room_blocks (room_id, start_date, end_date);
+
+-- Availability searches skip everything that ended before the stay: the bulk of the
+-- table for bookings, and every past closure for blocks
+CREATE INDEX IF NOT EXISTS idx_bookings_check_out_date ON bookings (check_out_date);
+CREATE INDEX IF NOT EXISTS idx_room_blocks_end_date ON room_blocks (end_date);
@@ -0,0 +1,23 @@
+-- ============================================
+-- V8: Allow the CLEANING room status
+-- ============================================
+
+-- Databases created by ddl-auto=update (and adopted through baseline-on-migrate) carry a
+-- Hibernate-generated check on rooms.status listing the statuses of that time, without CLEANING.
+-- Drop whatever status check exists, then add one that matches Room.RoomStatus.
+DO $$
+DECLARE
+    status_check RECORD;
+BEGIN
+    FOR status_check IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'rooms'::regclass
+          AND contype = 'c'
+          AND pg_get_constraintdef(oid) LIKE '%status%'
+    LOOP
+        EXECUTE format('ALTER TABLE rooms DROP CONSTRAINT %I', status_check.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE rooms ADD CONSTRAINT rooms_status_check
+    CHECK (status IN ('AVAILABLE', 'OCCUPIED', 'MAINTENANCE', 'RESERVED', 'CLEANING'));
@@ -0,0 +1,24 @@
+-- ============================================
+-- V9: Drop the duplicate unique index on bills.booking_id
+-- ============================================
+
+-- V1 declares bills.booking_id UNIQUE, and Hibernate's @OneToOne mapping created the same
+-- constraint on databases from ddl-auto=update, so idx_bills_booking_id (V2) is a second copy
+-- of that index: same lookups, twice the write cost. Only drop it where another unique index on
+-- booking_id alone exists, so the one-to-one mapping stays enforced everywhere.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1
+        FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+        WHERE i.indrelid = 'bills'::regclass
+          AND i.indisunique
+          AND i.indnkeyatts = 1
+          AND a.attname = 'booking_id'
+          AND c.relname <> 'idx_bills_booking_id'
+    ) THEN
+        DROP INDEX IF EXISTS idx_bills_booking_id;
+    END IF;
+END $$;
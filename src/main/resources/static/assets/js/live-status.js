@@ -0,0 +1,36 @@
+// Live status: pages mark badges with data-live-status="entity:id" and counters with
+// data-live-count="entity:STATUS"; changes arrive as Server-Sent Events from the URL in the
+// script tag's data-events attribute
+(function (script) {
+    if (!window.EventSource || !document.querySelector('[data-live-status], [data-live-count]')) {
+        return;
+    }
+    var source = new EventSource(script.dataset.events);
+
+    function adjust(selector, delta) {
+        document.querySelectorAll(selector).forEach(function (el) {
+            var value = parseInt(el.textContent, 10);
+            if (!isNaN(value)) {
+                el.textContent = Math.max(0, value + delta);
+            }
+        });
+    }
+
+    source.addEventListener('status', function (e) {
+        var event = JSON.parse(e.data);
+        var key = event.entity + ':' + event.entityId;
+        document.querySelectorAll('[data-live-status="' + key + '"]').forEach(function (badge) {
+            badge.className = 'badge badge-' + event.status.toLowerCase();
+            badge.textContent = event.status;
+        });
+        if (event.previousStatus) {
+            adjust('[data-live-count="' + event.entity + ':' + event.previousStatus + '"]', -1);
+        }
+        adjust('[data-live-count="' + event.entity + ':' + event.status + '"]', 1);
+    });
+
+    // Missed more events than the server keeps: reload once to get a consistent page
+    source.addEventListener('resync', function () {
+        window.location.reload();
+    });
+})(document.currentScript);